@@ -0,0 +1,100 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives concurrent GET /users/{id} calls for ids picked at random from a file and reports
+ * throughput and latency percentiles per concurrency level. Run with the single-file source launcher:
+ *
+ *   java scripts/ReadUserBenchmark.java idsFile [baseUrl] [concurrencyLevels] [requestsPerLevel]
+ */
+public class ReadUserBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        List<String> ids = Files.readAllLines(Path.of(args[0])).stream()
+                .filter(line -> !line.isBlank())
+                .toList();
+        String baseUrl = args.length > 1 ? args[1] : "http://localhost:8091";
+        int[] levels = Arrays.stream((args.length > 2 ? args[2] : "1,16").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int requests = args.length > 3 ? Integer.parseInt(args[3]) : 20000;
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.out.printf("%11s %10s %10s %10s %10s%n", "concurrency", "req/s", "p50 ms", "p99 ms", "errors");
+        for (int concurrency : levels) {
+            run(client, baseUrl, ids, Math.max(requests / 10, concurrency), concurrency);
+            run(client, baseUrl, ids, requests, concurrency).print(concurrency);
+        }
+    }
+
+    private static Result run(HttpClient client, String baseUrl, List<String> ids, int requests, int concurrency)
+            throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[requests];
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    int n;
+                    while ((n = next.getAndIncrement()) < requests) {
+                        String id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/users/" + id)).build();
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[n] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return new Result(requests, System.nanoTime() - start, latencies, errors.get());
+    }
+
+    private record Result(int requests, long elapsedNanos, long[] latencies, int errors) {
+
+        void print(int concurrency) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            System.out.printf("%11d %10.0f %10.2f %10.2f %10d%n",
+                    concurrency,
+                    requests / (elapsedNanos / 1e9),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    errors);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            return sorted[(int) Math.ceil(p * sorted.length) - 1] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+#
+# Measures GET /users/{id} latency on its own and during a storm of concurrent
+# POST /users calls, then prints the read and write bulkhead metrics.
+#
+# Usage: scripts/bulkhead-benchmark.sh
+#
+#   READ_CONCURRENCY    concurrent readers (default 16)
+#   WRITE_CONCURRENCY   concurrent writers during the storm (default 128)
+#   REQUESTS            measured reads per phase (default 20000)
+#
+set -euo pipefail
+
+READ_CONCURRENCY="${READ_CONCURRENCY:-16}"
+WRITE_CONCURRENCY="${WRITE_CONCURRENCY:-128}"
+REQUESTS="${REQUESTS:-20000}"
+DB_CONTAINER="spring-sdd-postgres"
+BASE_URL="http://localhost:8091"
+
+cd "$(dirname "$0")/.."
+
+docker compose up -d postgres
+until docker exec "$DB_CONTAINER" pg_isready -U sdd_user -d sdd_example > /dev/null 2>&1; do
+    sleep 0.5
+done
+
+./mvnw -q -B -DskipTests package
+JAR="$(ls target/spring-sdd-example-*.jar | grep -v plain | head -n 1)"
+IDS="$(mktemp)"
+
+app=""
+storm=""
+trap '[[ -n "$storm" ]] && kill "$storm" 2> /dev/null; [[ -n "$app" ]] && kill "$app" 2> /dev/null; rm -f "$IDS"' EXIT
+
+SPRING_JPA_SHOW_SQL=false LOGGING_LEVEL_ROOT=WARN java -jar "$JAR" > /dev/null &
+app=$!
+until curl -sf -o /dev/null "$BASE_URL/users/counts"; do
+    sleep 0.2
+done
+
+for i in $(seq 1 100); do
+    curl -sf -o /dev/null -H 'Content-Type: application/json' \
+        -d "{\"username\":\"bulkhead_$$_$i\",\"email\":\"bulkhead_$$_$i@benchmark.example.com\",\"firstName\":\"Bench\",\"lastName\":\"Mark\"}" \
+        "$BASE_URL/users"
+done
+docker exec "$DB_CONTAINER" psql -At -U sdd_user -d sdd_example -c \
+    "SELECT id FROM users WHERE status = 'ACTIVE' ORDER BY random() LIMIT 10000" > "$IDS"
+
+echo "Reads only"
+java scripts/ReadUserBenchmark.java "$IDS" "$BASE_URL" "$READ_CONCURRENCY" "$REQUESTS"
+
+echo "Reads during a write storm at concurrency $WRITE_CONCURRENCY"
+java scripts/CreateUserBenchmark.java "$BASE_URL" "$WRITE_CONCURRENCY" 1000000 > /dev/null &
+storm=$!
+sleep 2
+java scripts/ReadUserBenchmark.java "$IDS" "$BASE_URL" "$READ_CONCURRENCY" "$REQUESTS"
+kill "$storm" 2> /dev/null || true
+storm=""
+
+echo "Bulkheads: $(curl -sf "$BASE_URL/users/bulkheads")"
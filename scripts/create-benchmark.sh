@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+#
+# Compares POST /users throughput and latency with group commit off and on,
+# at several concurrency levels, against the docker compose PostgreSQL. The write
+# bulkhead queue is sized to the highest level so that runs without group commit
+# measure throughput rather than load shedding.
+#
+# Usage: scripts/create-benchmark.sh
+#
+#   LEVELS     comma-separated concurrency levels (default 1,8,32,128)
+#   REQUESTS   measured requests per level (default 2000)
+#   WINDOW     group commit window (default 5ms)
+#
+set -euo pipefail
+
+LEVELS="${LEVELS:-1,8,32,128}"
+REQUESTS="${REQUESTS:-2000}"
+WINDOW="${WINDOW:-5ms}"
+MAX_LEVEL="$(tr ',' '\n' <<< "$LEVELS" | sort -n | tail -n 1)"
+DB_CONTAINER="spring-sdd-postgres"
+BASE_URL="http://localhost:8091"
+
+cd "$(dirname "$0")/.."
+
+docker compose up -d postgres
+until docker exec "$DB_CONTAINER" pg_isready -U sdd_user -d sdd_example > /dev/null 2>&1; do
+    sleep 0.5
+done
+
+./mvnw -q -B -DskipTests package
+JAR="$(ls target/spring-sdd-example-*.jar | grep -v plain | head -n 1)"
+
+app=""
+trap '[[ -n "$app" ]] && kill "$app" 2> /dev/null || true' EXIT
+
+for enabled in false true; do
+    APP_USER_CREATE_GROUP_COMMIT_ENABLED="$enabled" \
+    APP_USER_CREATE_GROUP_COMMIT_WINDOW="$WINDOW" \
+    APP_BULKHEAD_WRITE_QUEUE_CAPACITY="$MAX_LEVEL" \
+    SPRING_JPA_SHOW_SQL=false \
+    LOGGING_LEVEL_ROOT=WARN \
+        java -jar "$JAR" > /dev/null &
+    app=$!
+    until curl -sf -o /dev/null "$BASE_URL/users/counts"; do
+        sleep 0.2
+    done
+
+    echo "Group commit enabled=$enabled"
+    java scripts/CreateUserBenchmark.java "$BASE_URL" "$LEVELS" "$REQUESTS"
+
+    kill "$app"
+    wait "$app" 2> /dev/null || true
+    app=""
+done
+
+echo "Benchmark users can be removed with:"
+echo "  docker exec $DB_CONTAINER psql -U sdd_user -d sdd_example -c \"DELETE FROM users WHERE email LIKE '%@benchmark.example.com'\""
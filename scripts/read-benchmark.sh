@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+#
+# Compares GET /users/{id} throughput and latency served by JPA and by the in-memory
+# read model, and reports the read model's memory footprint per user.
+#
+# Usage: scripts/read-benchmark.sh
+#
+#   USERS      active users to seed through a bulk import when fewer exist (default 100000)
+#   LEVELS     comma-separated concurrency levels (default 1,16)
+#   REQUESTS   measured requests per level (default 20000)
+#
+set -euo pipefail
+
+USERS="${USERS:-100000}"
+LEVELS="${LEVELS:-1,16}"
+REQUESTS="${REQUESTS:-20000}"
+DB_CONTAINER="spring-sdd-postgres"
+BASE_URL="http://localhost:8091"
+
+cd "$(dirname "$0")/.."
+
+psql_query() {
+    docker exec "$DB_CONTAINER" psql -At -U sdd_user -d sdd_example -c "$1"
+}
+
+docker compose up -d postgres
+until docker exec "$DB_CONTAINER" pg_isready -U sdd_user -d sdd_example > /dev/null 2>&1; do
+    sleep 0.5
+done
+
+./mvnw -q -B -DskipTests package
+JAR="$(ls target/spring-sdd-example-*.jar | grep -v plain | head -n 1)"
+IDS="$(mktemp)"
+CSV="$(mktemp)"
+
+app=""
+trap '[[ -n "$app" ]] && kill "$app" 2> /dev/null || true; rm -f "$IDS" "$CSV"' EXIT
+
+start_app() {
+    APP_USER_READ_MODEL_ENABLED="$1" \
+    SPRING_JPA_SHOW_SQL=false \
+    LOGGING_LEVEL_ROOT=WARN \
+        java -jar "$JAR" > /dev/null &
+    app=$!
+    until curl -sf -o /dev/null "$BASE_URL/users/counts"; do
+        sleep 0.2
+    done
+}
+
+stop_app() {
+    kill "$app"
+    wait "$app" 2> /dev/null || true
+    app=""
+}
+
+existing="$(psql_query "SELECT COUNT(*) FROM users WHERE status = 'ACTIVE'" 2> /dev/null || echo 0)"
+if (( existing < USERS )); then
+    start_app false
+    echo "Seeding $(( USERS - existing )) users"
+    run="$(date +%s)"
+    awk -v n="$(( USERS - existing ))" -v run="$run" 'BEGIN {
+        print "username,email,first_name,last_name"
+        for (i = 0; i < n; i++) printf "read_%s_%d,read_%s_%d@benchmark.example.com,Bench,Mark\n", run, i, run, i
+    }' > "$CSV"
+    location="$(curl -sf -D - -o /dev/null -H 'Content-Type: text/csv' --data-binary "@$CSV" "$BASE_URL/users/imports" \
+        | awk 'tolower($1) == "location:" { print $2 }' | tr -d '\r')"
+    until curl -sf "$location" | grep -Eq '"status":"(COMPLETED|FAILED)"'; do
+        sleep 1
+    done
+    stop_app
+fi
+psql_query "SELECT id FROM users WHERE status = 'ACTIVE' ORDER BY random() LIMIT 10000" > "$IDS"
+
+for enabled in false true; do
+    start_app "$enabled"
+    echo "Read model enabled=$enabled"
+    if [[ "$enabled" == true ]]; then
+        until curl -sf "$BASE_URL/users/read-model" | grep -q '"ready":true'; do
+            sleep 0.5
+        done
+        echo "Read model footprint: $(curl -sf "$BASE_URL/users/read-model")"
+    fi
+    java scripts/ReadUserBenchmark.java "$IDS" "$BASE_URL" "$LEVELS" "$REQUESTS"
+    stop_app
+done
@@ -0,0 +1,94 @@
+#!/usr/bin/env bash
+#
+# Measures time from container start to the first successful GET /users/{id}
+# and the resident set size of the JVM at that point.
+#
+# Usage: scripts/startup-benchmark.sh [dockerfile]
+#
+#   RUNS           measured runs (default 5)
+#   MAX_READY_MS   fail if the median time to ready exceeds this value
+#   MAX_RSS_MB     fail if the median RSS at ready exceeds this value
+#
+set -euo pipefail
+
+DOCKERFILE="${1:-Dockerfile.startup}"
+RUNS="${RUNS:-5}"
+IMAGE="spring-sdd-example:startup-benchmark"
+HOST_PORT="${HOST_PORT:-18091}"
+DB_CONTAINER="spring-sdd-postgres"
+USER_ID="00000000-0000-0000-0000-00000000be01"
+
+cd "$(dirname "$0")/.."
+
+now_ms() {
+    date +%s%3N
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+start_app() {
+    docker run -d --rm \
+        --network "$NETWORK" \
+        -p "$HOST_PORT:8091" \
+        -e SPRING_DATASOURCE_URL="jdbc:postgresql://postgres:5432/sdd_example" \
+        -e SPRING_DATASOURCE_USERNAME=sdd_user \
+        -e SPRING_DATASOURCE_PASSWORD=sdd_password \
+        -e SPRING_JPA_SHOW_SQL=false \
+        "$IMAGE"
+}
+
+wait_for() {
+    local url="$1"
+    until curl -sf -o /dev/null "$url"; do
+        sleep 0.05
+    done
+}
+
+docker compose up -d postgres
+until docker exec "$DB_CONTAINER" pg_isready -U sdd_user -d sdd_example > /dev/null 2>&1; do
+    sleep 0.5
+done
+NETWORK="$(docker inspect -f '{{range $name, $_ := .NetworkSettings.Networks}}{{$name}}{{end}}' "$DB_CONTAINER")"
+
+docker build -q -f "$DOCKERFILE" -t "$IMAGE" . > /dev/null
+
+echo "Warm-up run (applies migrations and seeds the benchmark user)"
+container="$(start_app)"
+wait_for "http://localhost:$HOST_PORT/users"
+docker exec "$DB_CONTAINER" psql -q -U sdd_user -d sdd_example -c \
+    "INSERT INTO users (id, username, email, first_name, last_name, status)
+     VALUES ('$USER_ID', 'startup_benchmark', 'startup.benchmark@example.com', 'Startup', 'Benchmark', 'ACTIVE')
+     ON CONFLICT DO NOTHING"
+docker stop "$container" > /dev/null
+
+ready_times=()
+rss_values=()
+for run in $(seq 1 "$RUNS"); do
+    start="$(now_ms)"
+    container="$(start_app)"
+    wait_for "http://localhost:$HOST_PORT/users/$USER_ID"
+    ready_ms=$(( $(now_ms) - start ))
+    rss_mb=$(( $(docker exec "$container" awk '/VmRSS/ { print $2 }' /proc/1/status) / 1024 ))
+    docker stop "$container" > /dev/null
+
+    echo "Run $run: ready in ${ready_ms} ms, RSS ${rss_mb} MB"
+    ready_times+=("$ready_ms")
+    rss_values+=("$rss_mb")
+done
+
+median_ready="$(printf '%s\n' "${ready_times[@]}" | median)"
+median_rss="$(printf '%s\n' "${rss_values[@]}" | median)"
+echo "$DOCKERFILE: median time to first GET /users/{id} ${median_ready} ms, median RSS at ready ${median_rss} MB"
+
+status=0
+if [[ -n "${MAX_READY_MS:-}" && "$median_ready" -gt "$MAX_READY_MS" ]]; then
+    echo "Time to ready regressed: ${median_ready} ms > ${MAX_READY_MS} ms"
+    status=1
+fi
+if [[ -n "${MAX_RSS_MB:-}" && "$median_rss" -gt "$MAX_RSS_MB" ]]; then
+    echo "RSS at ready regressed: ${median_rss} MB > ${MAX_RSS_MB} MB"
+    status=1
+fi
+exit "$status"
@@ -0,0 +1,98 @@
+package com.example.springsddexample.bulkhead;
+
+import com.example.springsddexample.exception.BulkheadFullException;
+import com.example.springsddexample.model.dto.BulkheadStats;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor for one class of requests. At most {@code maxConcurrency} tasks run at
+ * once, which also caps the pool connections the bulkhead can hold; up to
+ * {@code queueCapacity} more wait, and anything beyond is rejected with a
+ * {@link BulkheadFullException}. Tasks run with the submitting request bound to the
+ * worker thread (see {@link RequestContextPropagation}).
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final ThreadPoolTaskExecutor executor;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public Bulkhead(String name, int maxConcurrency, int queueCapacity) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(name + "-");
+        executor.initialize();
+    }
+
+    /**
+     * @throws BulkheadFullException if all workers are busy and the queue is full
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.get();
+            } finally {
+                completed.increment();
+            }
+        }, this::execute);
+    }
+
+    public BulkheadStats getStats() {
+        long startedTasks = started.sum();
+        return BulkheadStats.builder()
+                .name(name)
+                .maxConcurrency(maxConcurrency)
+                .active(executor.getActiveCount())
+                .queueDepth(executor.getQueueSize())
+                .queueCapacity(queueCapacity)
+                .submitted(submitted.sum())
+                .completed(completed.sum())
+                .rejected(rejected.sum())
+                .averageWaitMillis(startedTasks == 0 ? 0 : totalWaitNanos.sum() / 1e6 / startedTasks)
+                .maxWaitMillis(maxWaitNanos.get() / 1e6)
+                .build();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void execute(Runnable command) {
+        long queuedAt = System.nanoTime();
+        Runnable bound = RequestContextPropagation.bindCurrentRequest(command);
+        try {
+            executor.execute(() -> {
+                recordWait(System.nanoTime() - queuedAt);
+                bound.run();
+            });
+            submitted.increment();
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new BulkheadFullException(name);
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        started.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.springsddexample.bulkhead;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Carries the current servlet request over to the thread that finishes its work, so
+ * request-relative links resolve there as they would on the request thread.
+ */
+public final class RequestContextPropagation {
+
+    private RequestContextPropagation() {
+    }
+
+    /**
+     * Wraps {@code task} so that it runs with the request current at the time of this call bound.
+     */
+    public static Runnable bindCurrentRequest(Runnable task) {
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return task;
+        }
+        return () -> {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            try {
+                task.run();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+    }
+
+    /**
+     * Executor that runs tasks directly on the submitting thread with the current request bound;
+     * for cheap continuations of work completed on threads outside any request.
+     */
+    public static Executor currentRequestExecutor() {
+        HttpServletRequest request = currentRequest();
+        return task -> {
+            RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+            if (request != null) {
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            }
+            try {
+                task.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previous);
+            }
+        };
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+}
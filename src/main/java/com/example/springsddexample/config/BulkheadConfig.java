@@ -0,0 +1,22 @@
+package com.example.springsddexample.config;
+
+import com.example.springsddexample.bulkhead.Bulkhead;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BulkheadConfig {
+
+    @Bean
+    public Bulkhead userReadBulkhead(@Value("${app.bulkhead.read.max-concurrency}") int maxConcurrency,
+                                     @Value("${app.bulkhead.read.queue-capacity}") int queueCapacity) {
+        return new Bulkhead("user-read", maxConcurrency, queueCapacity);
+    }
+
+    @Bean
+    public Bulkhead userWriteBulkhead(@Value("${app.bulkhead.write.max-concurrency}") int maxConcurrency,
+                                      @Value("${app.bulkhead.write.queue-capacity}") int queueCapacity) {
+        return new Bulkhead("user-write", maxConcurrency, queueCapacity);
+    }
+}
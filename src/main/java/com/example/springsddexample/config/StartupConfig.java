@@ -0,0 +1,36 @@
+package com.example.springsddexample.config;
+
+import com.example.springsddexample.controller.UserController;
+import com.example.springsddexample.invalidation.UserInvalidationBus;
+import com.example.springsddexample.model.assembler.UserAssembler;
+import com.example.springsddexample.repository.UserRepository;
+import com.example.springsddexample.service.UserService;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps the user read path eager when {@code spring.main.lazy-initialization} is enabled,
+ * so lazy startup does not move its cost onto the first {@code GET /users/{id}}, and keeps
+ * the invalidation bus eager since nothing else depends on it and remote invalidations are
+ * dropped until it has subscribed to the transport.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter userReadPathEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                UserController.class,
+                UserService.class,
+                UserAssembler.class,
+                UserRepository.class,
+                ModelMapper.class);
+    }
+
+    @Bean
+    public static LazyInitializationExcludeFilter userInvalidationEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(UserInvalidationBus.class);
+    }
+}
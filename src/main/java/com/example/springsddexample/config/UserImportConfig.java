@@ -0,0 +1,22 @@
+package com.example.springsddexample.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class UserImportConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor userImportExecutor(
+            @Value("${app.user-import.max-concurrent-jobs}") int maxConcurrentJobs,
+            @Value("${app.user-import.max-pending-jobs}") int maxPendingJobs) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(maxPendingJobs);
+        executor.setThreadNamePrefix("user-import-");
+        return executor;
+    }
+}
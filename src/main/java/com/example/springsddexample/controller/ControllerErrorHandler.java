@@ -1,9 +1,13 @@
 package com.example.springsddexample.controller;
 
+import com.example.springsddexample.exception.BulkheadFullException;
 import com.example.springsddexample.exception.UserAlreadyExistsException;
+import com.example.springsddexample.exception.UserImportNotFoundException;
+import com.example.springsddexample.exception.UserImportRejectedException;
 import com.example.springsddexample.exception.UserNotFoundException;
 import com.example.springsddexample.model.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -29,6 +33,21 @@ public class ControllerErrorHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(UserImportNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUserImportNotFoundException(
+            UserImportNotFoundException ex, HttpServletRequest request) {
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .error("Not Found")
+                .status(HttpStatus.NOT_FOUND.value())
+                .timestamp(ZonedDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     @ExceptionHandler(UserAlreadyExistsException.class)
     public ResponseEntity<ErrorResponse> handleUserAlreadyExistsException(
             UserAlreadyExistsException ex, HttpServletRequest request) {
@@ -44,6 +63,40 @@ public class ControllerErrorHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFullException(
+            BulkheadFullException ex, HttpServletRequest request) {
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .error("Service Unavailable")
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .timestamp(ZonedDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(UserImportRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleUserImportRejectedException(
+            UserImportRejectedException ex, HttpServletRequest request) {
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .error("Service Unavailable")
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .timestamp(ZonedDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
             IllegalArgumentException ex, HttpServletRequest request) {
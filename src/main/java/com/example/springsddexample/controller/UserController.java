@@ -1,50 +1,151 @@
 package com.example.springsddexample.controller;
 
+import com.example.springsddexample.bulkhead.Bulkhead;
+import com.example.springsddexample.bulkhead.RequestContextPropagation;
+import com.example.springsddexample.model.dto.BulkheadStats;
 import com.example.springsddexample.model.dto.User;
+import com.example.springsddexample.model.dto.UserBatch;
+import com.example.springsddexample.model.dto.UserCounts;
+import com.example.springsddexample.model.dto.UserReadModelStats;
+import com.example.springsddexample.model.enums.UserField;
+import com.example.springsddexample.readmodel.UserReadModel;
+import com.example.springsddexample.service.UserBatchService;
+import com.example.springsddexample.service.UserCountService;
 import com.example.springsddexample.service.UserService;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+/**
+ * Endpoints touching the database complete asynchronously on the read or write
+ * {@link Bulkhead}, so a burst of writes cannot take the threads and connections reads need.
+ */
 @RestController
-@RequiredArgsConstructor
 @RequestMapping("/users")
 public class UserController {
 
     private final UserService userService;
+    private final UserCountService userCountService;
+    private final UserBatchService userBatchService;
+    private final UserReadModel userReadModel;
+    private final Bulkhead userReadBulkhead;
+    private final Bulkhead userWriteBulkhead;
+
+    public UserController(UserService userService,
+                          UserCountService userCountService,
+                          UserBatchService userBatchService,
+                          UserReadModel userReadModel,
+                          @Qualifier("userReadBulkhead") Bulkhead userReadBulkhead,
+                          @Qualifier("userWriteBulkhead") Bulkhead userWriteBulkhead) {
+        this.userService = userService;
+        this.userCountService = userCountService;
+        this.userBatchService = userBatchService;
+        this.userReadModel = userReadModel;
+        this.userReadBulkhead = userReadBulkhead;
+        this.userWriteBulkhead = userWriteBulkhead;
+    }
 
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public CompletableFuture<ResponseEntity<List<User>>> getAllUsers() {
+        return userReadBulkhead.supply(() -> ResponseEntity.ok(userService.getAllUsers()));
+    }
+
+    @GetMapping(params = "fields")
+    public CompletableFuture<ResponseEntity<List<Map<String, Object>>>> getAllUserFields(@RequestParam String fields) {
+        Set<UserField> userFields = UserField.parse(fields);
+        return userReadBulkhead.supply(() -> ResponseEntity.ok(userService.getAllUserFields(userFields)));
+    }
+
+    /**
+     * Ids are taken in the body: {@code app.user-batch.max-ids} UUIDs would not fit the
+     * request line limit of the servlet container.
+     */
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<UserBatch<User>>> getUsersByIds(@RequestBody List<UUID> ids) {
+        return userReadBulkhead.supply(() -> ResponseEntity.ok(userBatchService.getUsersByIds(ids)));
+    }
+
+    @PostMapping(value = "/batch", params = "fields")
+    public CompletableFuture<ResponseEntity<UserBatch<Map<String, Object>>>> getUserFieldsByIds(
+            @RequestBody List<UUID> ids, @RequestParam String fields) {
+        Set<UserField> userFields = UserField.parse(fields);
+        return userReadBulkhead.supply(() -> ResponseEntity.ok(userBatchService.getUserFieldsByIds(ids, userFields)));
+    }
+
+    @GetMapping("/counts")
+    public ResponseEntity<UserCounts> getUserCounts() {
+        return ResponseEntity.ok(userCountService.getCounts());
+    }
+
+    @PostMapping("/counts/recount")
+    public CompletableFuture<ResponseEntity<UserCounts>> recountUsers() {
+        return userCountService.recount(userReadBulkhead::supply)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/read-model")
+    public ResponseEntity<UserReadModelStats> getReadModelStats() {
+        return ResponseEntity.ok(userReadModel.getStats());
+    }
+
+    @GetMapping("/bulkheads")
+    public ResponseEntity<List<BulkheadStats>> getBulkheadStats() {
+        List<BulkheadStats> stats = new ArrayList<>(List.of(userReadBulkhead.getStats(), userWriteBulkhead.getStats()));
+        userService.getUserCreationStats().ifPresent(stats::add);
+        return ResponseEntity.ok(stats);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable UUID id) {
-        return ResponseEntity.ok(userService.getUserById(id));
+    public CompletableFuture<ResponseEntity<User>> getUserById(@PathVariable UUID id) {
+        return userReadBulkhead.supply(() -> ResponseEntity.ok(userService.getUserById(id)));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> getUserFieldsById(@PathVariable UUID id,
+                                                                                   @RequestParam String fields) {
+        Set<UserField> userFields = UserField.parse(fields);
+        return userReadBulkhead.supply(() -> ResponseEntity.ok(userService.getUserFieldsById(id, userFields)));
     }
 
+    /**
+     * Group-committed creates wait for their batch without holding a write worker; only creates
+     * that are not group-committed (or fall back from a failed batch) take one. Both paths are
+     * bounded and answer {@code 503} when full.
+     */
     @PostMapping
-    public ResponseEntity<User> createUser(@RequestBody User user) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(userService.createUser(user));
+    public CompletableFuture<ResponseEntity<User>> createUser(@RequestBody User user) {
+        Executor onRequest = RequestContextPropagation.currentRequestExecutor();
+        return userService.submitUserCreation(user, onRequest)
+                .thenComposeAsync(created -> created
+                        .map(CompletableFuture::completedFuture)
+                        .orElseGet(() -> userWriteBulkhead.supply(() -> userService.createUser(user))), onRequest)
+                .thenApply(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<User> updateUser(@PathVariable UUID id, @RequestBody User updatedUser) {
-        return ResponseEntity.ok(userService.updateUser(id, updatedUser));
+    public CompletableFuture<ResponseEntity<User>> updateUser(@PathVariable UUID id, @RequestBody User updatedUser) {
+        return userWriteBulkhead.supply(() -> ResponseEntity.ok(userService.updateUser(id, updatedUser)));
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<User> patchUser(@PathVariable UUID id, @RequestBody User patch) {
-        return ResponseEntity.ok(userService.patchUser(id, patch));
+    public CompletableFuture<ResponseEntity<User>> patchUser(@PathVariable UUID id, @RequestBody User patch) {
+        return userWriteBulkhead.supply(() -> ResponseEntity.ok(userService.patchUser(id, patch)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteUser(@PathVariable UUID id) {
-        userService.deleteUser(id);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> deleteUser(@PathVariable UUID id) {
+        return userWriteBulkhead.supply(() -> {
+            userService.deleteUser(id);
+            return ResponseEntity.noContent().build();
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.example.springsddexample.controller;
+
+import com.example.springsddexample.model.dto.UserImport;
+import com.example.springsddexample.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/users/imports")
+public class UserImportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final UserImportService userImportService;
+
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<UserImport> submitImport(InputStream csv) throws IOException {
+        UserImport userImport = userImportService.submitImport(csv);
+        return ResponseEntity.accepted()
+                .location(linkTo(methodOn(UserImportController.class).getImport(userImport.getId())).toUri())
+                .body(userImport);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<UserImport> getImport(@PathVariable UUID id) {
+        return ResponseEntity.ok(userImportService.getImport(id));
+    }
+
+    @GetMapping("/{id}/errors")
+    public ResponseEntity<Resource> getErrorReport(@PathVariable UUID id) {
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .body(userImportService.getErrorReport(id));
+    }
+}
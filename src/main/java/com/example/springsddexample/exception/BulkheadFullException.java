@@ -0,0 +1,9 @@
+package com.example.springsddexample.exception;
+
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String bulkhead) {
+        super("Too many concurrent requests for " + bulkhead + ", try again later");
+    }
+
+}
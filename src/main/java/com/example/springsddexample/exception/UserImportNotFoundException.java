@@ -0,0 +1,11 @@
+package com.example.springsddexample.exception;
+
+import java.util.UUID;
+
+public class UserImportNotFoundException extends RuntimeException {
+
+    public UserImportNotFoundException(UUID id) {
+        super("User import not found with id: " + id);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.example.springsddexample.exception;
+
+public class UserImportRejectedException extends RuntimeException {
+
+    public UserImportRejectedException(int maxPendingJobs) {
+        super("Too many user imports in progress (limit " + maxPendingJobs + "), try again later");
+    }
+
+}
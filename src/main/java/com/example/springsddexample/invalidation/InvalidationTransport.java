@@ -0,0 +1,11 @@
+package com.example.springsddexample.invalidation;
+
+/**
+ * Broadcasts {@link UserChangeEvent}s to every node, including the publishing one.
+ */
+public interface InvalidationTransport {
+
+    void publish(UserChangeEvent event);
+
+    void subscribe(UserInvalidationListener subscriber);
+}
@@ -0,0 +1,32 @@
+package com.example.springsddexample.invalidation;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory transport that delivers synchronously to every subscriber. Sharing one
+ * instance between several {@link UserInvalidationBus}es simulates multiple nodes.
+ */
+@Component
+@Profile("test")
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private final List<UserInvalidationListener> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(UserChangeEvent event) {
+        subscribers.forEach(subscriber -> subscriber.onUserChange(event));
+    }
+
+    @Override
+    public void subscribe(UserInvalidationListener subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void resync() {
+        subscribers.forEach(UserInvalidationListener::onResync);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.springsddexample.invalidation;
+
+import com.example.springsddexample.model.entity.UserEntity;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Identifies users whose cached state is stale after a committed write, by id and by
+ * every username and email involved (old and new values alike).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserChangeEvent {
+
+    private String origin;
+
+    @Builder.Default
+    private Set<UUID> ids = new LinkedHashSet<>();
+
+    @Builder.Default
+    private Set<String> usernames = new LinkedHashSet<>();
+
+    @Builder.Default
+    private Set<String> emails = new LinkedHashSet<>();
+
+    public static UserChangeEvent of(UserEntity user) {
+        return new UserChangeEvent().include(user);
+    }
+
+    public static UserChangeEvent of(Collection<UserEntity> users) {
+        UserChangeEvent event = new UserChangeEvent();
+        users.forEach(event::include);
+        return event;
+    }
+
+    public UserChangeEvent include(UserEntity user) {
+        if (user.getId() != null) {
+            ids.add(user.getId());
+        }
+        if (user.getUsername() != null) {
+            usernames.add(user.getUsername());
+        }
+        if (user.getEmail() != null) {
+            emails.add(user.getEmail());
+        }
+        return this;
+    }
+
+    public int size() {
+        return ids.size() + usernames.size() + emails.size();
+    }
+
+    public List<UserChangeEvent> partition(int maxKeys) {
+        List<UserChangeEvent> parts = new ArrayList<>();
+        UserChangeEvent part = null;
+        List<Object> keys = new ArrayList<>(size());
+        keys.addAll(ids);
+        keys.addAll(usernames);
+        keys.addAll(emails);
+        int index = 0;
+        for (Object key : keys) {
+            if (part == null || part.size() == maxKeys) {
+                part = UserChangeEvent.builder().origin(origin).build();
+                parts.add(part);
+            }
+            if (index < ids.size()) {
+                part.getIds().add((UUID) key);
+            } else if (index < ids.size() + usernames.size()) {
+                part.getUsernames().add((String) key);
+            } else {
+                part.getEmails().add((String) key);
+            }
+            index++;
+        }
+        return parts;
+    }
+}
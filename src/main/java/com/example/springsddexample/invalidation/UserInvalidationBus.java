@@ -0,0 +1,71 @@
+package com.example.springsddexample.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Relays {@link UserChangeEvent}s published by the write paths. Once the surrounding
+ * transaction commits (or immediately, outside one) local listeners are notified
+ * synchronously and the event is broadcast to the other nodes; deliveries of this
+ * node's own events are ignored on receipt. A failing listener is logged and skipped,
+ * so it can neither fail the write that published the event nor stop the broadcast.
+ */
+@Slf4j
+@Component
+public class UserInvalidationBus {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final InvalidationTransport transport;
+    private final ObjectProvider<UserInvalidationListener> listeners;
+
+    public UserInvalidationBus(InvalidationTransport transport, ObjectProvider<UserInvalidationListener> listeners) {
+        this.transport = transport;
+        this.listeners = listeners;
+        transport.subscribe(new RemoteSubscriber());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(UserChangeEvent event) {
+        event.setOrigin(nodeId);
+        notifyListeners(listener -> listener.onUserChange(event));
+        try {
+            transport.publish(event);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast user change for ids {}", event.getIds(), e);
+        }
+    }
+
+    private class RemoteSubscriber implements UserInvalidationListener {
+
+        @Override
+        public void onUserChange(UserChangeEvent event) {
+            if (!nodeId.equals(event.getOrigin())) {
+                notifyListeners(listener -> listener.onUserChange(event));
+            }
+        }
+
+        @Override
+        public void onResync() {
+            notifyListeners(UserInvalidationListener::onResync);
+        }
+    }
+
+    private void notifyListeners(Consumer<UserInvalidationListener> notification) {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException e) {
+                log.warn("User invalidation listener {} failed", listener.getClass().getName(), e);
+            }
+        });
+    }
+}
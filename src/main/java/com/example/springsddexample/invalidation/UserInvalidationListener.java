@@ -0,0 +1,16 @@
+package com.example.springsddexample.invalidation;
+
+/**
+ * Implemented by node-local caches and indexes of user data. Beans of this type are
+ * notified by the {@link UserInvalidationBus} of changes made on any node.
+ */
+public interface UserInvalidationListener {
+
+    void onUserChange(UserChangeEvent event);
+
+    /**
+     * Called when notifications may have been missed, e.g. after the transport reconnects.
+     * Implementations should drop or rebuild everything they hold.
+     */
+    void onResync();
+}
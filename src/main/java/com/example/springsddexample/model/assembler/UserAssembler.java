@@ -4,10 +4,16 @@ import com.example.springsddexample.controller.UserController;
 import com.example.springsddexample.model.entity.UserEntity;
 import com.example.springsddexample.model.dto.User;
 import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
 @Component
@@ -25,12 +31,32 @@ public class UserAssembler extends RepresentationModelAssemblerSupport<UserEntit
     public User toModel(UserEntity entity) {
         User user = mapper.map(entity, User.class);
         
-        user.add(linkTo(methodOn(UserController.class).getUserById(entity.getId())).withSelfRel());
-        user.add(linkTo(UserController.class).withRel("users"));
+        WebMvcLinkBuilder usersLinkBuilder = linkTo(UserController.class);
+        user.add(usersLinkBuilder.slash(entity.getId()).withSelfRel());
+        user.add(usersLinkBuilder.withRel("users"));
         
         return user;
     }
 
+    /**
+     * Batch variant of {@link #toModel(UserEntity)}: resolves the type map and the
+     * collection link once and derives self links from it instead of a proxy call per user.
+     */
+    public List<User> toModels(List<UserEntity> entities) {
+        TypeMap<UserEntity, User> typeMap = mapper.typeMap(UserEntity.class, User.class);
+        WebMvcLinkBuilder usersLinkBuilder = linkTo(UserController.class);
+        Link usersLink = usersLinkBuilder.withRel("users");
+
+        List<User> users = new ArrayList<>(entities.size());
+        for (UserEntity entity : entities) {
+            User user = typeMap.map(entity);
+            user.add(usersLinkBuilder.slash(entity.getId()).withSelfRel());
+            user.add(usersLink);
+            users.add(user);
+        }
+        return users;
+    }
+
     public UserEntity toEntity(User user) {
         return mapper.map(user, UserEntity.class);
     }
@@ -0,0 +1,22 @@
+package com.example.springsddexample.model.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkheadStats {
+
+    private String name;
+    private int maxConcurrency;
+    private int active;
+    private int queueDepth;
+    private int queueCapacity;
+    private long submitted;
+    private long completed;
+    private long rejected;
+    private double averageWaitMillis;
+    private double maxWaitMillis;
+}
@@ -0,0 +1,17 @@
+package com.example.springsddexample.model.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBatch<T> {
+
+    private List<T> users;
+    private List<UUID> missingIds;
+}
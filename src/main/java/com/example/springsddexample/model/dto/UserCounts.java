@@ -0,0 +1,18 @@
+package com.example.springsddexample.model.dto;
+
+import com.example.springsddexample.model.enums.Status;
+import lombok.*;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserCounts {
+
+    private Map<Status, Long> counts;
+    private ZonedDateTime reconciledAt;
+}
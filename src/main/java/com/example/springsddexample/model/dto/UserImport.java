@@ -0,0 +1,27 @@
+package com.example.springsddexample.model.dto;
+
+import com.example.springsddexample.model.enums.ImportStatus;
+import lombok.*;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImport {
+
+    private UUID id;
+    private ImportStatus status;
+    private long totalBytes;
+    private long bytesRead;
+    private long rowsProcessed;
+    private long rowsImported;
+    private long rowsRejected;
+    private ZonedDateTime submittedAt;
+    private ZonedDateTime startedAt;
+    private ZonedDateTime finishedAt;
+    private String failureReason;
+}
@@ -0,0 +1,19 @@
+package com.example.springsddexample.model.dto;
+
+import lombok.*;
+
+import java.time.ZonedDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserReadModelStats {
+
+    private boolean ready;
+    private long users;
+    private long bytes;
+    private long bytesPerUser;
+    private ZonedDateTime loadedAt;
+}
@@ -0,0 +1,5 @@
+package com.example.springsddexample.model.enums;
+
+public enum ImportStatus {
+    PENDING, RUNNING, COMPLETED, FAILED;
+}
@@ -0,0 +1,47 @@
+package com.example.springsddexample.model.enums;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public enum UserField {
+    ID("id"),
+    USERNAME("username"),
+    EMAIL("email"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName");
+
+    private final String property;
+
+    UserField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public static UserField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown field: " + property
+                        + ". Supported fields: " + Arrays.stream(values())
+                        .map(UserField::getProperty)
+                        .collect(Collectors.joining(", "))));
+    }
+
+    public static Set<UserField> parse(String fields) {
+        Set<UserField> parsed = EnumSet.noneOf(UserField.class);
+        for (String property : fields.split(",")) {
+            if (!property.isBlank()) {
+                parsed.add(fromProperty(property.trim()));
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        return parsed;
+    }
+}
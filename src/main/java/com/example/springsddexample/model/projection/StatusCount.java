@@ -0,0 +1,10 @@
+package com.example.springsddexample.model.projection;
+
+import com.example.springsddexample.model.enums.Status;
+
+public interface StatusCount {
+
+    Status getStatus();
+
+    long getTotal();
+}
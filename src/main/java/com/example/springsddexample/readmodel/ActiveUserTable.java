@@ -0,0 +1,218 @@
+package com.example.springsddexample.readmodel;
+
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.Status;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Dense, column-per-attribute table of active users. Ids are held as two {@code long}
+ * columns and located through an open-addressing index of row numbers, so the table
+ * holds a fixed number of arrays regardless of how many users it contains. Removing a
+ * user moves the last row into its place to keep the columns dense.
+ */
+final class ActiveUserTable {
+
+    private static final int EMPTY = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[] idHigh;
+    private long[] idLow;
+    private final StringColumn usernames;
+    private final StringColumn emails;
+    private final StringColumn firstNames;
+    private final StringColumn lastNames;
+    private int[] index;
+    private int size;
+
+    ActiveUserTable(int expectedSize) {
+        int capacity = Math.max(expectedSize, 16);
+        this.idHigh = new long[capacity];
+        this.idLow = new long[capacity];
+        this.usernames = new StringColumn(capacity);
+        this.emails = new StringColumn(capacity);
+        this.firstNames = new StringColumn(capacity);
+        this.lastNames = new StringColumn(capacity);
+        this.index = newIndex(capacity);
+    }
+
+    UserEntity get(UUID id) {
+        lock.readLock().lock();
+        try {
+            int row = index[findSlot(id.getMostSignificantBits(), id.getLeastSignificantBits())];
+            return row == EMPTY ? null : toEntity(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<UserEntity> getAll() {
+        lock.readLock().lock();
+        try {
+            List<UserEntity> users = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                users.add(toEntity(row));
+            }
+            return users;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(UserEntity user) {
+        long high = user.getId().getMostSignificantBits();
+        long low = user.getId().getLeastSignificantBits();
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(high, low);
+            int row = index[slot];
+            if (row == EMPTY) {
+                if (size == idHigh.length) {
+                    grow();
+                    slot = findSlot(high, low);
+                }
+                row = size++;
+                idHigh[row] = high;
+                idLow[row] = low;
+                index[slot] = row;
+            }
+            usernames.set(row, user.getUsername());
+            emails.set(row, user.getEmail());
+            firstNames.set(row, user.getFirstName());
+            lastNames.set(row, user.getLastName());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            int row = index[slot];
+            if (row == EMPTY) {
+                return;
+            }
+            deleteSlot(slot);
+            int last = --size;
+            if (row != last) {
+                index[findSlot(idHigh[last], idLow[last])] = row;
+                idHigh[row] = idHigh[last];
+                idLow[row] = idLow[last];
+                usernames.move(last, row);
+                emails.move(last, row);
+                firstNames.move(last, row);
+                lastNames.move(last, row);
+            } else {
+                usernames.clear(row);
+                emails.clear(row);
+                firstNames.clear(row);
+                lastNames.clear(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return 8L * idHigh.length + 8L * idLow.length + 4L * index.length
+                    + usernames.estimatedBytes() + emails.estimatedBytes()
+                    + firstNames.estimatedBytes() + lastNames.estimatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private UserEntity toEntity(int row) {
+        return UserEntity.builder()
+                .id(new UUID(idHigh[row], idLow[row]))
+                .username(usernames.get(row))
+                .email(emails.get(row))
+                .firstName(firstNames.get(row))
+                .lastName(lastNames.get(row))
+                .status(Status.ACTIVE)
+                .build();
+    }
+
+    /**
+     * Returns the slot holding the given id, or the empty slot that ends its probe sequence.
+     */
+    private int findSlot(long high, long low) {
+        int mask = index.length - 1;
+        int slot = home(high, low, mask);
+        int row;
+        while ((row = index[slot]) != EMPTY && (idHigh[row] != high || idLow[row] != low)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Backward-shift deletion: pulls later entries of the probe sequence into the hole
+     * so that lookups never need tombstones.
+     */
+    private void deleteSlot(int slot) {
+        int mask = index.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        int row;
+        while ((row = index[next]) != EMPTY) {
+            int home = home(idHigh[row], idLow[row], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                index[hole] = row;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        index[hole] = EMPTY;
+    }
+
+    private void grow() {
+        int capacity = idHigh.length * 2;
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        usernames.growRows(capacity);
+        emails.growRows(capacity);
+        firstNames.growRows(capacity);
+        lastNames.growRows(capacity);
+        index = newIndex(capacity);
+        int mask = index.length - 1;
+        for (int row = 0; row < size; row++) {
+            int slot = home(idHigh[row], idLow[row], mask);
+            while (index[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = row;
+        }
+    }
+
+    private static int[] newIndex(int rowCapacity) {
+        int[] slots = new int[Integer.highestOneBit(rowCapacity - 1) << 2];
+        Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+
+    private static int home(long high, long low, int mask) {
+        long hash = high * 0x9E3779B97F4A7C15L ^ low;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
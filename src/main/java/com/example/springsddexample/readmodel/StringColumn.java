@@ -0,0 +1,104 @@
+package com.example.springsddexample.readmodel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * One string attribute of every row, stored as UTF-8 in a single shared byte array
+ * addressed by per-row offset and length. Overwritten values leave garbage behind
+ * that is reclaimed by compacting the array once it outweighs the live data.
+ */
+final class StringColumn {
+
+    private static final int NULL_LENGTH = -1;
+    private static final int MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private byte[] data;
+    private int used;
+    private int garbage;
+    private int[] offsets;
+    private int[] lengths;
+
+    StringColumn(int rowCapacity) {
+        this.data = new byte[Math.max(rowCapacity * 16, 16)];
+        this.offsets = new int[rowCapacity];
+        this.lengths = new int[rowCapacity];
+    }
+
+    void growRows(int rowCapacity) {
+        offsets = Arrays.copyOf(offsets, rowCapacity);
+        lengths = Arrays.copyOf(lengths, rowCapacity);
+    }
+
+    String get(int row) {
+        int length = lengths[row];
+        return length == NULL_LENGTH ? null : new String(data, offsets[row], length, StandardCharsets.UTF_8);
+    }
+
+    void set(int row, String value) {
+        discard(row);
+        if (value == null) {
+            lengths[row] = NULL_LENGTH;
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, data, used, bytes.length);
+        offsets[row] = used;
+        lengths[row] = bytes.length;
+        used += bytes.length;
+    }
+
+    /**
+     * Moves the value of {@code from} into {@code to} without copying bytes, leaving {@code from} empty.
+     */
+    void move(int from, int to) {
+        discard(to);
+        offsets[to] = offsets[from];
+        lengths[to] = lengths[from];
+        offsets[from] = 0;
+        lengths[from] = 0;
+    }
+
+    void clear(int row) {
+        discard(row);
+        offsets[row] = 0;
+        lengths[row] = 0;
+    }
+
+    long estimatedBytes() {
+        return data.length + 4L * offsets.length + 4L * lengths.length;
+    }
+
+    private void discard(int row) {
+        garbage += Math.max(lengths[row], 0);
+    }
+
+    private void ensureCapacity(int length) {
+        if (used + length <= data.length) {
+            return;
+        }
+        if (garbage > MIN_COMPACTION_BYTES && garbage > used / 2) {
+            compact(length);
+        } else {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, used + length));
+        }
+    }
+
+    private void compact(int reserve) {
+        int live = used - garbage;
+        byte[] compacted = new byte[Math.max(live + reserve, live + live / 2)];
+        int position = 0;
+        for (int row = 0; row < lengths.length; row++) {
+            int length = lengths[row];
+            if (length > 0) {
+                System.arraycopy(data, offsets[row], compacted, position, length);
+                offsets[row] = position;
+                position += length;
+            }
+        }
+        data = compacted;
+        used = position;
+        garbage = 0;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.springsddexample.readmodel;
+
+import com.example.springsddexample.invalidation.UserChangeEvent;
+import com.example.springsddexample.invalidation.UserInvalidationListener;
+import com.example.springsddexample.model.dto.UserReadModelStats;
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory replica of all active users, enabled with {@code app.user-read-model.enabled}.
+ * It is loaded from a keyset-paged snapshot once the application is ready and kept current
+ * by re-reading the users named in each {@link UserChangeEvent}, local or remote. Changes
+ * that arrive while a snapshot is being taken are replayed onto it before it is published,
+ * and a transport resync takes a fresh snapshot.
+ */
+@Slf4j
+@Component
+public class UserReadModel implements UserInvalidationListener {
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final int snapshotChunkSize;
+    private final Object writeLock = new Object();
+    private volatile ActiveUserTable table;
+    private volatile ZonedDateTime loadedAt;
+    private Set<UUID> replayIds;
+
+    public UserReadModel(UserRepository userRepository,
+                         @Value("${app.user-read-model.enabled}") boolean enabled,
+                         @Value("${app.user-read-model.snapshot-chunk-size}") int snapshotChunkSize) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.snapshotChunkSize = snapshotChunkSize;
+    }
+
+    public boolean isReady() {
+        return table != null;
+    }
+
+    public Optional<UserEntity> findById(UUID id) {
+        return Optional.ofNullable(table.get(id));
+    }
+
+    public List<UserEntity> findAll() {
+        return table.getAll();
+    }
+
+    public UserReadModelStats getStats() {
+        ActiveUserTable current = table;
+        if (current == null) {
+            return UserReadModelStats.builder().build();
+        }
+        int users = current.size();
+        long bytes = current.estimatedBytes();
+        return UserReadModelStats.builder()
+                .ready(true)
+                .users(users)
+                .bytes(bytes)
+                .bytesPerUser(users == 0 ? 0 : bytes / users)
+                .loadedAt(loadedAt)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (replayIds != null) {
+                return;
+            }
+            replayIds = new HashSet<>();
+        }
+        try {
+            long start = System.nanoTime();
+            ActiveUserTable snapshot = new ActiveUserTable(snapshotChunkSize);
+            UUID after = FIRST_ID;
+            List<UserEntity> chunk;
+            do {
+                chunk = userRepository.findByStatusAndIdGreaterThanOrderByIdAsc(Status.ACTIVE, after,
+                        Limit.of(snapshotChunkSize));
+                chunk.forEach(snapshot::put);
+                if (!chunk.isEmpty()) {
+                    after = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == snapshotChunkSize);
+
+            synchronized (writeLock) {
+                refresh(snapshot, replayIds);
+                table = snapshot;
+                loadedAt = ZonedDateTime.now();
+            }
+            UserReadModelStats stats = getStats();
+            log.info("Loaded {} active users into the read model in {} ms ({} bytes, {} bytes per user)",
+                    stats.getUsers(), (System.nanoTime() - start) / 1_000_000, stats.getBytes(),
+                    stats.getBytesPerUser());
+        } finally {
+            synchronized (writeLock) {
+                replayIds = null;
+            }
+        }
+    }
+
+    @Override
+    public void onUserChange(UserChangeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (replayIds != null) {
+                replayIds.addAll(event.getIds());
+            }
+            if (table != null) {
+                refresh(table, event.getIds());
+            }
+        }
+    }
+
+    @Override
+    public void onResync() {
+        load();
+    }
+
+    private void refresh(ActiveUserTable target, Collection<UUID> ids) {
+        List<UUID> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += snapshotChunkSize) {
+            List<UUID> chunk = pending.subList(from, Math.min(from + snapshotChunkSize, pending.size()));
+            Map<UUID, UserEntity> current = userRepository.findAllById(chunk)
+                    .stream()
+                    .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+            for (UUID id : chunk) {
+                UserEntity user = current.get(id);
+                if (user != null && user.getStatus() == Status.ACTIVE) {
+                    target.put(user);
+                } else {
+                    target.remove(id);
+                }
+            }
+        }
+    }
+}
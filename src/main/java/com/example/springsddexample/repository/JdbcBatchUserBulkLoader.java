@@ -0,0 +1,40 @@
+package com.example.springsddexample.repository;
+
+import com.example.springsddexample.model.entity.UserEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@Profile("test")
+@RequiredArgsConstructor
+public class JdbcBatchUserBulkLoader implements UserBulkLoader {
+
+    private static final String INSERT_SQL = "INSERT INTO users (id, username, email, first_name, last_name, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void load(List<UserEntity> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (statement, user) -> {
+            statement.setObject(1, user.getId());
+            statement.setString(2, user.getUsername());
+            statement.setString(3, user.getEmail());
+            statement.setString(4, user.getFirstName());
+            statement.setString(5, user.getLastName());
+            statement.setString(6, user.getStatus().name());
+            statement.setTimestamp(7, Timestamp.from(user.getCreatedAt().toInstant()));
+            statement.setTimestamp(8, Timestamp.from(user.getUpdatedAt().toInstant()));
+        });
+    }
+}
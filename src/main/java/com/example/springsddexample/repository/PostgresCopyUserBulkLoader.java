@@ -0,0 +1,61 @@
+package com.example.springsddexample.repository;
+
+import com.example.springsddexample.model.entity.UserEntity;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Repository
+@Profile("!test")
+@RequiredArgsConstructor
+public class PostgresCopyUserBulkLoader implements UserBulkLoader {
+
+    private static final String COPY_SQL = "COPY users (id, username, email, first_name, last_name, status, created_at, updated_at) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void load(List<UserEntity> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        String csv = toCsv(users);
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(csv));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private String toCsv(List<UserEntity> users) {
+        StringBuilder csv = new StringBuilder(users.size() * 192);
+        for (UserEntity user : users) {
+            csv.append(user.getId()).append(',')
+                    .append(quote(user.getUsername())).append(',')
+                    .append(quote(user.getEmail())).append(',')
+                    .append(quote(user.getFirstName())).append(',')
+                    .append(quote(user.getLastName())).append(',')
+                    .append(user.getStatus().name()).append(',')
+                    .append(user.getCreatedAt().toOffsetDateTime()).append(',')
+                    .append(user.getUpdatedAt().toOffsetDateTime()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private String quote(String value) {
+        return value == null ? "" : '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.springsddexample.repository;
+
+import com.example.springsddexample.model.entity.UserEntity;
+
+import java.util.List;
+
+/**
+ * Inserts pre-validated users in bulk, bypassing the persistence context.
+ * Callers supply ids, status and timestamps; each call is loaded atomically.
+ */
+public interface UserBulkLoader {
+
+    void load(List<UserEntity> users);
+}
@@ -2,25 +2,41 @@ package com.example.springsddexample.repository;
 
 import com.example.springsddexample.model.enums.Status;
 import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.projection.StatusCount;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<UserEntity, UUID> {
+public interface UserRepository extends JpaRepository<UserEntity, UUID>, UserRepositoryCustom {
 
     List<UserEntity> findByStatus(Status status);
     
     Optional<UserEntity> findByIdAndStatus(UUID id, Status status);
+
+    List<UserEntity> findByIdInAndStatus(Collection<UUID> ids, Status status);
+
+    List<UserEntity> findByStatusAndIdGreaterThanOrderByIdAsc(Status status, UUID id, Limit limit);
     
     @Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END FROM UserEntity u WHERE u.username = :username AND u.status = 'ACTIVE'")
     boolean existsByUsernameAndStatusActive(@Param("username") String username);
     
     @Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END FROM UserEntity u WHERE u.email = :email AND u.status = 'ACTIVE'")
     boolean existsByEmailAndStatusActive(@Param("email") String email);
+
+    @Query("SELECT u.username FROM UserEntity u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.status AS status, COUNT(u) AS total FROM UserEntity u GROUP BY u.status")
+    List<StatusCount> countByStatus();
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.springsddexample.repository;
+
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.model.enums.UserField;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Sparse reads that select only the requested columns. Each row is keyed by
+ * {@link UserField#getProperty()} in field declaration order.
+ */
+public interface UserRepositoryCustom {
+
+    List<Map<String, Object>> findFieldsByStatus(Collection<UserField> fields, Status status);
+
+    Optional<Map<String, Object>> findFieldsByIdAndStatus(Collection<UserField> fields, UUID id, Status status);
+
+    List<Map<String, Object>> findFieldsByIdInAndStatus(Collection<UserField> fields, Collection<UUID> ids, Status status);
+}
@@ -0,0 +1,77 @@
+package com.example.springsddexample.repository;
+
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.model.enums.UserField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFieldsByStatus(Collection<UserField> fields, Status status) {
+        return findFields(fields, (builder, root) -> builder.equal(root.get("status"), status));
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsByIdAndStatus(Collection<UserField> fields, UUID id, Status status) {
+        return findFields(fields, (builder, root) -> builder.and(
+                builder.equal(root.get("id"), id),
+                builder.equal(root.get("status"), status)))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsByIdInAndStatus(Collection<UserField> fields, Collection<UUID> ids, Status status) {
+        return findFields(fields, (builder, root) -> builder.and(
+                root.get("id").in(ids),
+                builder.equal(root.get("status"), status)));
+    }
+
+    private List<Map<String, Object>> findFields(Collection<UserField> fields,
+                                                 BiFunction<CriteriaBuilder, Root<UserEntity>, Predicate> where) {
+        Set<UserField> selected = EnumSet.copyOf(fields);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<UserEntity> root = query.from(UserEntity.class);
+        List<Selection<?>> selections = selected.stream()
+                .<Selection<?>>map(field -> root.get(field.getProperty()).alias(field.getProperty()))
+                .toList();
+        query.multiselect(selections)
+                .where(where.apply(builder, root));
+
+        return entityManager.createQuery(query)
+                .getResultList()
+                .stream()
+                .map(tuple -> toMap(tuple, selected))
+                .toList();
+    }
+
+    private Map<String, Object> toMap(Tuple tuple, Set<UserField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (UserField field : fields) {
+            row.put(field.getProperty(), tuple.get(field.getProperty()));
+        }
+        return row;
+    }
+}
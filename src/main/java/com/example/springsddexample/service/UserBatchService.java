@@ -0,0 +1,99 @@
+package com.example.springsddexample.service;
+
+import com.example.springsddexample.model.assembler.UserAssembler;
+import com.example.springsddexample.model.dto.User;
+import com.example.springsddexample.model.dto.UserBatch;
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.model.enums.UserField;
+import com.example.springsddexample.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Resolves a list of user ids with chunked {@code IN} queries. Found users are returned
+ * in request order, duplicates collapsed; ids that are missing or not active are reported
+ * rather than failing the batch.
+ */
+@Service
+public class UserBatchService {
+
+    private final UserRepository userRepository;
+    private final UserAssembler userAssembler;
+    private final int maxIds;
+    private final int chunkSize;
+
+    public UserBatchService(UserRepository userRepository,
+                            UserAssembler userAssembler,
+                            @Value("${app.user-batch.max-ids}") int maxIds,
+                            @Value("${app.user-batch.chunk-size}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.userAssembler = userAssembler;
+        this.maxIds = maxIds;
+        this.chunkSize = chunkSize;
+    }
+
+    public UserBatch<User> getUsersByIds(List<UUID> ids) {
+        return resolve(ids,
+                chunk -> userRepository.findByIdInAndStatus(chunk, Status.ACTIVE),
+                UserEntity::getId,
+                userAssembler::toModels);
+    }
+
+    public UserBatch<Map<String, Object>> getUserFieldsByIds(List<UUID> ids, Set<UserField> fields) {
+        Set<UserField> selected = EnumSet.copyOf(fields);
+        selected.add(UserField.ID);
+        return resolve(ids,
+                chunk -> userRepository.findFieldsByIdInAndStatus(selected, chunk, Status.ACTIVE),
+                row -> (UUID) row.get(UserField.ID.getProperty()),
+                rows -> {
+                    if (!fields.contains(UserField.ID)) {
+                        rows.forEach(row -> row.remove(UserField.ID.getProperty()));
+                    }
+                    return rows;
+                });
+    }
+
+    private <T, R> UserBatch<R> resolve(List<UUID> ids,
+                                        Function<List<UUID>, List<T>> finder,
+                                        Function<T, UUID> idOf,
+                                        Function<List<T>, List<R>> toModels) {
+        if (ids.size() > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " ids can be requested at once");
+        }
+        List<UUID> requestedIds = new ArrayList<>(new LinkedHashSet<>(ids));
+
+        Map<UUID, T> rowsById = new HashMap<>();
+        for (int from = 0; from < requestedIds.size(); from += chunkSize) {
+            List<UUID> chunk = requestedIds.subList(from, Math.min(from + chunkSize, requestedIds.size()));
+            finder.apply(chunk)
+                    .forEach(row -> rowsById.put(idOf.apply(row), row));
+        }
+
+        List<T> found = new ArrayList<>(rowsById.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : requestedIds) {
+            T row = rowsById.get(id);
+            if (row != null) {
+                found.add(row);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return UserBatch.<R>builder()
+                .users(toModels.apply(found))
+                .missingIds(missingIds)
+                .build();
+    }
+}
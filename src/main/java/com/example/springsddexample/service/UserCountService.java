@@ -0,0 +1,104 @@
+package com.example.springsddexample.service;
+
+import com.example.springsddexample.model.dto.UserCounts;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.model.projection.StatusCount;
+import com.example.springsddexample.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keeps per-status user counts in memory, updated by the write paths as they happen.
+ * A periodic {@link #recount()} against the database corrects any drift.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserCountService {
+
+    private final UserRepository userRepository;
+    private final Map<Status, AtomicLong> counts = createCounters();
+    private final AtomicReference<CompletableFuture<UserCounts>> recountInProgress = new AtomicReference<>();
+    private volatile ZonedDateTime reconciledAt;
+
+    public UserCounts getCounts() {
+        Map<Status, Long> snapshot = new EnumMap<>(Status.class);
+        counts.forEach((status, count) -> snapshot.put(status, count.get()));
+        return UserCounts.builder()
+                .counts(snapshot)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.user-counts.reconcile-interval}",
+            initialDelayString = "${app.user-counts.reconcile-interval}")
+    public synchronized void recount() {
+        Map<Status, Long> before = getCounts().getCounts();
+        Map<Status, Long> exact = new EnumMap<>(Status.class);
+        for (StatusCount statusCount : userRepository.countByStatus()) {
+            exact.put(statusCount.getStatus(), statusCount.getTotal());
+        }
+        // Applied as a delta so that changes recorded while the query ran are kept
+        counts.forEach((status, count) -> count.addAndGet(exact.getOrDefault(status, 0L) - before.get(status)));
+        reconciledAt = ZonedDateTime.now();
+    }
+
+    /**
+     * Recounts on {@code runner} unless a recount started this way is still in progress, in which
+     * case the caller shares its result instead of queueing another full scan.
+     */
+    public CompletableFuture<UserCounts> recount(Function<Supplier<UserCounts>, CompletableFuture<UserCounts>> runner) {
+        CompletableFuture<UserCounts> recount = new CompletableFuture<>();
+        CompletableFuture<UserCounts> inProgress = recountInProgress.compareAndExchange(null, recount);
+        if (inProgress != null) {
+            return inProgress.copy();
+        }
+        try {
+            runner.apply(() -> {
+                recount();
+                return getCounts();
+            }).whenComplete((counts, failure) -> {
+                recountInProgress.set(null);
+                if (failure != null) {
+                    recount.completeExceptionally(failure);
+                } else {
+                    recount.complete(counts);
+                }
+            });
+        } catch (RuntimeException e) {
+            recountInProgress.set(null);
+            recount.completeExceptionally(e);
+            throw e;
+        }
+        return recount.copy();
+    }
+
+    public void recordCreated(Status status, long created) {
+        counts.get(status).addAndGet(created);
+    }
+
+    public void recordStatusChange(Status from, Status to) {
+        counts.get(from).decrementAndGet();
+        counts.get(to).incrementAndGet();
+    }
+
+    private static Map<Status, AtomicLong> createCounters() {
+        Map<Status, AtomicLong> counters = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counters.put(status, new AtomicLong());
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,288 @@
+package com.example.springsddexample.service;
+
+import com.example.springsddexample.exception.BulkheadFullException;
+import com.example.springsddexample.exception.UserAlreadyExistsException;
+import com.example.springsddexample.invalidation.UserChangeEvent;
+import com.example.springsddexample.model.dto.BulkheadStats;
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.repository.UserBulkLoader;
+import com.example.springsddexample.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Group commit for {@code createUser}, enabled with {@code app.user-create.group-commit.enabled}.
+ * Creates arriving within {@code window} of each other, up to {@code max-batch-size}, are
+ * validated with set-based queries and written by the {@link UserBulkLoader} in one
+ * transaction. Conflicting requests fail individually; if the batch write itself fails,
+ * every caller falls back to the regular single-user path. At most {@code max-pending}
+ * creates wait for a batch, anything beyond is rejected with a {@link BulkheadFullException}.
+ */
+@Slf4j
+@Service
+public class UserCreateCoalescer implements SmartLifecycle {
+
+    private static final String NAME = "user-create-group-commit";
+    private static final Optional<UserEntity> FALLBACK = Optional.empty();
+
+    private final UserRepository userRepository;
+    private final UserBulkLoader userBulkLoader;
+    private final UserCountService userCountService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final int maxPending;
+    private final BlockingQueue<PendingCreate> queue;
+    private final AtomicInteger flushing = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private volatile boolean running;
+    private Thread flusher;
+
+    public UserCreateCoalescer(UserRepository userRepository,
+                               UserBulkLoader userBulkLoader,
+                               UserCountService userCountService,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${app.user-create.group-commit.enabled}") boolean enabled,
+                               @Value("${app.user-create.group-commit.max-batch-size}") int maxBatchSize,
+                               @Value("${app.user-create.group-commit.window}") Duration window,
+                               @Value("${app.user-create.group-commit.max-pending}") int maxPending) {
+        this.userRepository = userRepository;
+        this.userBulkLoader = userBulkLoader;
+        this.userCountService = userCountService;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.maxPending = maxPending;
+        this.queue = new LinkedBlockingQueue<>(maxPending);
+    }
+
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    /**
+     * Queues the user for the next batch.
+     *
+     * @return completes with the created user once the batch is written, with empty if the caller
+     * should create it through the regular path, or exceptionally with {@link UserAlreadyExistsException}
+     * if the username or email is taken, including by an earlier request in the same batch
+     * @throws BulkheadFullException if {@code max-pending} creates are already waiting for a batch
+     */
+    public CompletableFuture<Optional<UserEntity>> submit(UserEntity user) {
+        PendingCreate pending = new PendingCreate(user, new CompletableFuture<>(), System.nanoTime());
+        if (!queue.offer(pending)) {
+            rejected.increment();
+            throw new BulkheadFullException(NAME);
+        }
+        submitted.increment();
+        if (!running && queue.remove(pending)) {
+            pending.result().complete(FALLBACK);
+            completed.increment();
+        }
+        return pending.result();
+    }
+
+    /**
+     * Reported like a {@link com.example.springsddexample.bulkhead.Bulkhead}: a batch counts as
+     * {@code max-batch-size} concurrent creates and the wait is the time until its batch is flushed.
+     */
+    public BulkheadStats getStats() {
+        long startedCreates = started.sum();
+        return BulkheadStats.builder()
+                .name(NAME)
+                .maxConcurrency(maxBatchSize)
+                .active(flushing.get())
+                .queueDepth(queue.size())
+                .queueCapacity(maxPending)
+                .submitted(submitted.sum())
+                .completed(completed.sum())
+                .rejected(rejected.sum())
+                .averageWaitMillis(startedCreates == 0 ? 0 : totalWaitNanos.sum() / 1e6 / startedCreates)
+                .maxWaitMillis(maxWaitNanos.get() / 1e6)
+                .build();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "user-create-group-commit");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            try {
+                flusher.join(TimeUnit.NANOSECONDS.toMillis(windowNanos) + 5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        PendingCreate pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().complete(FALLBACK);
+            completed.increment();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingCreate next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                recordWait(batch);
+                flushing.set(batch.size());
+                try {
+                    flush(batch);
+                } finally {
+                    flushing.set(0);
+                    completed.add(batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    void flush(List<PendingCreate> batch) {
+        List<PendingCreate> accepted;
+        List<UserEntity> users;
+        try {
+            accepted = validate(batch);
+            if (accepted.isEmpty()) {
+                return;
+            }
+            users = accepted.stream()
+                    .map(PendingCreate::user)
+                    .toList();
+            prepare(users);
+            userBulkLoader.load(users);
+        } catch (DataAccessException e) {
+            log.debug("Group commit of {} users failed, falling back to single creates", batch.size(), e);
+            batch.forEach(pending -> pending.result().complete(FALLBACK));
+            return;
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+
+        // The users are committed: failures from here on must not send callers down the fallback path
+        try {
+            userCountService.recordCreated(Status.ACTIVE, users.size());
+            eventPublisher.publishEvent(UserChangeEvent.of(users));
+        } catch (RuntimeException e) {
+            log.warn("Failed to record group commit of {} users", users.size(), e);
+        }
+        accepted.forEach(pending -> pending.result().complete(Optional.of(pending.user())));
+    }
+
+    private void recordWait(List<PendingCreate> batch) {
+        long now = System.nanoTime();
+        for (PendingCreate pending : batch) {
+            long waitNanos = now - pending.queuedAt();
+            started.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+    }
+
+    private List<PendingCreate> validate(List<PendingCreate> batch) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (PendingCreate pending : batch) {
+            usernames.add(pending.user().getUsername());
+            emails.add(pending.user().getEmail());
+        }
+        usernames.remove(null);
+        emails.remove(null);
+        Set<String> takenUsernames = usernames.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(userRepository.findExistingUsernames(usernames));
+        Set<String> takenEmails = emails.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(userRepository.findExistingEmails(emails));
+
+        List<PendingCreate> accepted = new ArrayList<>(batch.size());
+        for (PendingCreate pending : batch) {
+            String username = pending.user().getUsername();
+            String email = pending.user().getEmail();
+            if (username == null || email == null) {
+                pending.result().complete(FALLBACK);
+            } else if (takenUsernames.contains(username)) {
+                pending.result().completeExceptionally(new UserAlreadyExistsException("Username", username));
+            } else if (takenEmails.contains(email)) {
+                pending.result().completeExceptionally(new UserAlreadyExistsException("Email", email));
+            } else {
+                takenUsernames.add(username);
+                takenEmails.add(email);
+                accepted.add(pending);
+            }
+        }
+        return accepted;
+    }
+
+    private void prepare(List<UserEntity> users) {
+        ZonedDateTime now = ZonedDateTime.now();
+        for (UserEntity user : users) {
+            user.setId(UUID.randomUUID());
+            user.setStatus(Objects.requireNonNullElse(user.getStatus(), Status.ACTIVE));
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+        }
+    }
+
+    record PendingCreate(UserEntity user, CompletableFuture<Optional<UserEntity>> result, long queuedAt) {
+    }
+}
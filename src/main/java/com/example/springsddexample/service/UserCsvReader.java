@@ -0,0 +1,131 @@
+package com.example.springsddexample.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams RFC 4180 records from a CSV with a header row naming the
+ * username, email, first_name and last_name columns in any order.
+ * Only the current record is held in memory.
+ */
+class UserCsvReader implements Closeable {
+
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final int columnCount;
+    private final int usernameIndex;
+    private final int emailIndex;
+    private final int firstNameIndex;
+    private final int lastNameIndex;
+    private long line = 1;
+
+    UserCsvReader(Reader reader) throws IOException {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        this.columnCount = header.size();
+        this.usernameIndex = columnIndex(header, "username");
+        this.emailIndex = columnIndex(header, "email");
+        this.firstNameIndex = columnIndex(header, "first_name");
+        this.lastNameIndex = columnIndex(header, "last_name");
+    }
+
+    UserCsvRow next() throws IOException {
+        while (true) {
+            long recordLine = line;
+            List<String> values = readRecord();
+            if (values == null) {
+                return null;
+            }
+            if (values.size() == 1 && values.get(0).isEmpty()) {
+                continue;
+            }
+            if (values.size() != columnCount) {
+                return UserCsvRow.rejected(recordLine,
+                        "Expected " + columnCount + " columns but found " + values.size());
+            }
+            return new UserCsvRow(recordLine,
+                    values.get(usernameIndex),
+                    values.get(emailIndex),
+                    values.get(firstNameIndex),
+                    values.get(lastNameIndex),
+                    null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int columnIndex(List<String> header, String column) {
+        for (int i = 0; i < header.size(); i++) {
+            if (normalize(header.get(i)).equals(normalize(column))) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("CSV header is missing column: " + column);
+    }
+
+    private String normalize(String name) {
+        return name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        int length = 0;
+        boolean quoted = false;
+        boolean empty = true;
+        int c;
+        while ((c = reader.read()) != -1) {
+            empty = false;
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new IOException("Record at line " + line + " exceeds " + MAX_RECORD_LENGTH + " characters");
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        value.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    value.append((char) c);
+                }
+            } else if (c == '"' && value.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                values.add(value.toString());
+                return values;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+        }
+        if (empty) {
+            return null;
+        }
+        if (quoted) {
+            throw new IOException("Unterminated quoted value at line " + line);
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
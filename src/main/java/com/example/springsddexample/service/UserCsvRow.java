@@ -0,0 +1,20 @@
+package com.example.springsddexample.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+class UserCsvRow {
+
+    private final long line;
+    private final String username;
+    private final String email;
+    private final String firstName;
+    private final String lastName;
+    private final String rejection;
+
+    static UserCsvRow rejected(long line, String rejection) {
+        return new UserCsvRow(line, null, null, null, null, rejection);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.springsddexample.service;
+
+import com.example.springsddexample.model.dto.UserImport;
+import com.example.springsddexample.model.enums.ImportStatus;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+class UserImportJob {
+
+    private final UUID id;
+    private final Path upload;
+    private final Path errorReport;
+    private final long totalBytes;
+    private final ZonedDateTime submittedAt = ZonedDateTime.now();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong rowsProcessed = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private volatile ImportStatus status = ImportStatus.PENDING;
+    private volatile ZonedDateTime startedAt;
+    private volatile ZonedDateTime finishedAt;
+    private volatile String failureReason;
+
+    UserImportJob(UUID id, Path upload, Path errorReport, long totalBytes) {
+        this.id = id;
+        this.upload = upload;
+        this.errorReport = errorReport;
+        this.totalBytes = totalBytes;
+    }
+
+    void start() {
+        startedAt = ZonedDateTime.now();
+        status = ImportStatus.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = ZonedDateTime.now();
+        status = ImportStatus.COMPLETED;
+    }
+
+    void fail(String reason) {
+        failureReason = reason;
+        finishedAt = ZonedDateTime.now();
+        status = ImportStatus.FAILED;
+    }
+
+    UserImport toModel() {
+        return UserImport.builder()
+                .id(id)
+                .status(status)
+                .totalBytes(totalBytes)
+                .bytesRead(bytesRead.get())
+                .rowsProcessed(rowsProcessed.get())
+                .rowsImported(rowsImported.get())
+                .rowsRejected(rowsRejected.get())
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .failureReason(failureReason)
+                .build();
+    }
+}
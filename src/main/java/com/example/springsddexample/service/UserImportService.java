@@ -0,0 +1,419 @@
+package com.example.springsddexample.service;
+
+import com.example.springsddexample.exception.UserImportNotFoundException;
+import com.example.springsddexample.exception.UserImportRejectedException;
+import com.example.springsddexample.invalidation.UserChangeEvent;
+import com.example.springsddexample.model.dto.UserImport;
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.repository.UserBulkLoader;
+import com.example.springsddexample.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Imports users from CSV uploads in the background. The upload is spooled to disk,
+ * then streamed in chunks of {@code app.user-import.chunk-size} rows; each chunk is
+ * uniqueness-checked with set-based queries and handed to the {@link UserBulkLoader}.
+ * A chunk that loses a uniqueness race is re-checked and retried, so only rows that
+ * really conflict are rejected. Rejected rows are written to a per-job error report instead of failing the job.
+ * At most {@code max-pending-jobs} uploads are spooled, queued or running at once; finished
+ * jobs and their error reports are removed once they are older than {@code retention}.
+ */
+@Service
+public class UserImportService {
+
+    static final int MAX_USERNAME_LENGTH = 50;
+    static final int MAX_EMAIL_LENGTH = 100;
+    static final int MAX_NAME_LENGTH = 50;
+
+    private final UserRepository userRepository;
+    private final UserBulkLoader userBulkLoader;
+    private final UserCountService userCountService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor userImportExecutor;
+    private final int chunkSize;
+    private final int maxPendingJobs;
+    private final Duration retention;
+    private final Path workDirectory;
+    private final Semaphore pendingJobs;
+    private final Map<UUID, UserImportJob> jobs = new ConcurrentHashMap<>();
+
+    public UserImportService(UserRepository userRepository,
+                             UserBulkLoader userBulkLoader,
+                             UserCountService userCountService,
+                             ApplicationEventPublisher eventPublisher,
+                             @Qualifier("userImportExecutor") TaskExecutor userImportExecutor,
+                             @Value("${app.user-import.chunk-size}") int chunkSize,
+                             @Value("${app.user-import.max-pending-jobs}") int maxPendingJobs,
+                             @Value("${app.user-import.retention}") Duration retention,
+                             @Value("${app.user-import.work-dir}") Path workDirectory) {
+        this.userRepository = userRepository;
+        this.userBulkLoader = userBulkLoader;
+        this.userCountService = userCountService;
+        this.eventPublisher = eventPublisher;
+        this.userImportExecutor = userImportExecutor;
+        this.chunkSize = chunkSize;
+        this.maxPendingJobs = maxPendingJobs;
+        this.retention = retention;
+        this.workDirectory = workDirectory;
+        this.pendingJobs = new Semaphore(maxPendingJobs);
+    }
+
+    /**
+     * @throws UserImportRejectedException if {@code max-pending-jobs} imports are already in progress
+     */
+    public UserImport submitImport(InputStream csv) throws IOException {
+        if (!pendingJobs.tryAcquire()) {
+            throw new UserImportRejectedException(maxPendingJobs);
+        }
+        UUID id = UUID.randomUUID();
+        Path upload = null;
+        Path errorReport = null;
+        try {
+            Files.createDirectories(workDirectory);
+            upload = Files.createTempFile(workDirectory, "user-import-" + id, ".csv");
+            Files.copy(csv, upload, StandardCopyOption.REPLACE_EXISTING);
+            errorReport = Files.createTempFile(workDirectory, "user-import-" + id, "-errors.csv");
+
+            UserImportJob job = new UserImportJob(id, upload, errorReport, Files.size(upload));
+            jobs.put(id, job);
+            userImportExecutor.execute(() -> runImport(job));
+            return job.toModel();
+        } catch (TaskRejectedException e) {
+            discard(id, upload, errorReport);
+            throw new UserImportRejectedException(maxPendingJobs);
+        } catch (IOException | RuntimeException e) {
+            discard(id, upload, errorReport);
+            throw e;
+        }
+    }
+
+    public UserImport getImport(UUID id) {
+        return findJob(id).toModel();
+    }
+
+    public Resource getErrorReport(UUID id) {
+        return new FileSystemResource(findJob(id).getErrorReport());
+    }
+
+    @Scheduled(fixedDelayString = "${app.user-import.cleanup-interval}",
+            initialDelayString = "${app.user-import.cleanup-interval}")
+    public void evictFinishedJobs() {
+        ZonedDateTime cutoff = ZonedDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            if (job.getFinishedAt() == null || !job.getFinishedAt().isBefore(cutoff)) {
+                return false;
+            }
+            deleteQuietly(job.getErrorReport());
+            return true;
+        });
+        deleteOrphanedFiles(cutoff);
+    }
+
+    private UserImportJob findJob(UUID id) {
+        UserImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new UserImportNotFoundException(id);
+        }
+        return job;
+    }
+
+    private void runImport(UserImportJob job) {
+        job.start();
+        try (CountingInputStream in = new CountingInputStream(Files.newInputStream(job.getUpload()));
+             UserCsvReader reader = new UserCsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+             BufferedWriter errors = Files.newBufferedWriter(job.getErrorReport(), StandardCharsets.UTF_8)) {
+            errors.write("line,reason,username,email,first_name,last_name\n");
+
+            List<UserCsvRow> chunk = new ArrayList<>(chunkSize);
+            UserCsvRow row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk, errors);
+                    job.getBytesRead().set(in.getCount());
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, errors);
+            }
+            job.getBytesRead().set(in.getCount());
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(job.getUpload());
+            pendingJobs.release();
+        }
+    }
+
+    private void discard(UUID id, Path upload, Path errorReport) {
+        jobs.remove(id);
+        deleteQuietly(upload);
+        deleteQuietly(errorReport);
+        pendingJobs.release();
+    }
+
+    /**
+     * Removes files left behind by jobs this instance no longer tracks, e.g. from before a restart.
+     */
+    private void deleteOrphanedFiles(ZonedDateTime cutoff) {
+        if (!Files.isDirectory(workDirectory)) {
+            return;
+        }
+        Set<Path> tracked = new HashSet<>();
+        jobs.values().forEach(job -> {
+            tracked.add(job.getUpload());
+            tracked.add(job.getErrorReport());
+        });
+        try (Stream<Path> files = Files.list(workDirectory)) {
+            files.filter(file -> file.getFileName().toString().startsWith("user-import-"))
+                    .filter(file -> !tracked.contains(file))
+                    .filter(file -> isOlderThan(file, cutoff))
+                    .forEach(this::deleteQuietly);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private boolean isOlderThan(Path file, ZonedDateTime cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff.toInstant());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void importChunk(UserImportJob job, List<UserCsvRow> chunk, Writer errors) throws IOException {
+        List<UserCsvRow> candidates = new ArrayList<>(chunk.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (UserCsvRow row : chunk) {
+            String rejection = validate(row);
+            if (rejection == null && usernames.contains(row.getUsername())) {
+                rejection = "Duplicate username in file: " + row.getUsername();
+            }
+            if (rejection == null && emails.contains(row.getEmail())) {
+                rejection = "Duplicate email in file: " + row.getEmail();
+            }
+            if (rejection != null) {
+                reject(job, errors, row, rejection);
+                continue;
+            }
+            usernames.add(row.getUsername());
+            emails.add(row.getEmail());
+            candidates.add(row);
+        }
+
+        List<UserCsvRow> accepted = rejectExisting(job, candidates, errors);
+        if (!accepted.isEmpty()) {
+            ZonedDateTime now = ZonedDateTime.now();
+            try {
+                load(job, accepted, now);
+            } catch (DataIntegrityViolationException e) {
+                loadAfterConflict(job, accepted, now, errors);
+            } catch (DataAccessException e) {
+                rejectAll(job, errors, accepted, "Chunk load failed: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+        job.getRowsProcessed().addAndGet(chunk.size());
+        errors.flush();
+    }
+
+    /**
+     * A row lost a uniqueness race against a concurrent create or import after the existence
+     * check. Rows that now conflict are rejected and the rest loaded again; if that conflicts
+     * as well, rows are loaded one at a time so that only the conflicting ones are rejected.
+     */
+    private void loadAfterConflict(UserImportJob job, List<UserCsvRow> rows, ZonedDateTime now, Writer errors)
+            throws IOException {
+        List<UserCsvRow> remaining = rejectExisting(job, rows, errors);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        try {
+            load(job, remaining, now);
+        } catch (DataIntegrityViolationException e) {
+            for (UserCsvRow row : remaining) {
+                try {
+                    load(job, List.of(row), now);
+                } catch (DataAccessException rowFailure) {
+                    reject(job, errors, row, "Row load failed: " + rowFailure.getMostSpecificCause().getMessage());
+                }
+            }
+        } catch (DataAccessException e) {
+            rejectAll(job, errors, remaining, "Chunk load failed: " + e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private List<UserCsvRow> rejectExisting(UserImportJob job, List<UserCsvRow> rows, Writer errors)
+            throws IOException {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        rows.forEach(row -> {
+            usernames.add(row.getUsername());
+            emails.add(row.getEmail());
+        });
+        Set<String> existingUsernames = new HashSet<>(userRepository.findExistingUsernames(usernames));
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(emails));
+
+        List<UserCsvRow> remaining = new ArrayList<>(rows.size());
+        for (UserCsvRow row : rows) {
+            if (existingUsernames.contains(row.getUsername())) {
+                reject(job, errors, row, "Username already exists: " + row.getUsername());
+            } else if (existingEmails.contains(row.getEmail())) {
+                reject(job, errors, row, "Email already exists: " + row.getEmail());
+            } else {
+                remaining.add(row);
+            }
+        }
+        return remaining;
+    }
+
+    private void load(UserImportJob job, List<UserCsvRow> rows, ZonedDateTime now) {
+        List<UserEntity> entities = rows.stream()
+                .map(row -> toEntity(row, now))
+                .toList();
+        userBulkLoader.load(entities);
+        job.getRowsImported().addAndGet(entities.size());
+        userCountService.recordCreated(Status.ACTIVE, entities.size());
+        eventPublisher.publishEvent(UserChangeEvent.of(entities));
+    }
+
+    private String validate(UserCsvRow row) {
+        if (row.getRejection() != null) {
+            return row.getRejection();
+        }
+        String rejection = validateValue("username", row.getUsername(), MAX_USERNAME_LENGTH);
+        if (rejection == null) {
+            rejection = validateValue("email", row.getEmail(), MAX_EMAIL_LENGTH);
+        }
+        if (rejection == null) {
+            rejection = validateValue("first_name", row.getFirstName(), MAX_NAME_LENGTH);
+        }
+        if (rejection == null) {
+            rejection = validateValue("last_name", row.getLastName(), MAX_NAME_LENGTH);
+        }
+        return rejection;
+    }
+
+    private String validateValue(String column, String value, int maxLength) {
+        if (value == null || value.isBlank()) {
+            return column + " is required";
+        }
+        if (value.length() > maxLength) {
+            return column + " exceeds " + maxLength + " characters";
+        }
+        return null;
+    }
+
+    private UserEntity toEntity(UserCsvRow row, ZonedDateTime now) {
+        return UserEntity.builder()
+                .id(UUID.randomUUID())
+                .username(row.getUsername())
+                .email(row.getEmail())
+                .firstName(row.getFirstName())
+                .lastName(row.getLastName())
+                .status(Status.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private void rejectAll(UserImportJob job, Writer errors, List<UserCsvRow> rows, String reason)
+            throws IOException {
+        for (UserCsvRow row : rows) {
+            reject(job, errors, row, reason);
+        }
+    }
+
+    private void reject(UserImportJob job, Writer errors, UserCsvRow row, String reason) throws IOException {
+        job.getRowsRejected().incrementAndGet();
+        errors.write(row.getLine() + ","
+                + quote(reason) + ","
+                + quote(row.getUsername()) + ","
+                + quote(row.getEmail()) + ","
+                + quote(row.getFirstName()) + ","
+                + quote(row.getLastName()) + "\n");
+    }
+
+    private String quote(String value) {
+        return value == null ? "" : '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
@@ -1,16 +1,26 @@
 package com.example.springsddexample.service;
 
 import com.example.springsddexample.exception.UserNotFoundException;
+import com.example.springsddexample.invalidation.UserChangeEvent;
 import com.example.springsddexample.model.assembler.UserAssembler;
 import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.model.enums.UserField;
 import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.dto.BulkheadStats;
 import com.example.springsddexample.model.dto.User;
+import com.example.springsddexample.readmodel.UserReadModel;
 import com.example.springsddexample.repository.UserRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,8 +30,15 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserAssembler userAssembler;
     private final UserValidationService userValidationService;
+    private final UserCountService userCountService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserCreateCoalescer userCreateCoalescer;
+    private final UserReadModel userReadModel;
 
     public List<User> getAllUsers() {
+        if (userReadModel.isReady()) {
+            return userAssembler.toModels(userReadModel.findAll());
+        }
         return userRepository.findByStatus(Status.ACTIVE)
                 .stream()
                 .map(userAssembler::toModel)
@@ -29,16 +46,51 @@ public class UserService {
     }
 
     public User getUserById(UUID id) {
-        return userRepository.findByIdAndStatus(id, Status.ACTIVE)
+        Optional<UserEntity> user = userReadModel.isReady()
+                ? userReadModel.findById(id)
+                : userRepository.findByIdAndStatus(id, Status.ACTIVE);
+        return user
                 .map(userAssembler::toModel)
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
 
+    public List<Map<String, Object>> getAllUserFields(Set<UserField> fields) {
+        return userRepository.findFieldsByStatus(fields, Status.ACTIVE);
+    }
+
+    public Map<String, Object> getUserFieldsById(UUID id, Set<UserField> fields) {
+        return userRepository.findFieldsByIdAndStatus(fields, id, Status.ACTIVE)
+                .orElseThrow(() -> new UserNotFoundException(id));
+    }
+
+    /**
+     * Queues the user for the next group commit without blocking the caller. The future completes
+     * with the created user, or empty if group commit is disabled or the batch could not be written
+     * and the user has to be created with {@link #createUser(User)} instead. Results are mapped on
+     * {@code completionExecutor}, which must provide the request context the links are built from.
+     */
+    public CompletableFuture<Optional<User>> submitUserCreation(User user, Executor completionExecutor) {
+        if (!userCreateCoalescer.isEnabled()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return userCreateCoalescer.submit(userAssembler.toEntity(user))
+                .thenApplyAsync(created -> created.map(userAssembler::toModel), completionExecutor);
+    }
+
+    public Optional<BulkheadStats> getUserCreationStats() {
+        return userCreateCoalescer.isEnabled()
+                ? Optional.of(userCreateCoalescer.getStats())
+                : Optional.empty();
+    }
+
     public User createUser(User user) {
         userValidationService.validateUserCreation(user);
 
         UserEntity entity = userAssembler.toEntity(user);
-        return userAssembler.toModel(userRepository.save(entity));
+        UserEntity savedEntity = userRepository.save(entity);
+        userCountService.recordCreated(savedEntity.getStatus(), 1);
+        eventPublisher.publishEvent(UserChangeEvent.of(savedEntity));
+        return userAssembler.toModel(savedEntity);
     }
 
     public User updateUser(UUID id, User user) {
@@ -47,8 +99,10 @@ public class UserService {
         
         userValidationService.validateUserUpdate(user, existingUser);
         
+        UserChangeEvent changeEvent = UserChangeEvent.of(existingUser);
         userAssembler.updateEntity(existingUser, user);
         UserEntity savedEntity = userRepository.save(existingUser);
+        eventPublisher.publishEvent(changeEvent.include(savedEntity));
         return userAssembler.toModel(savedEntity);
     }
 
@@ -62,6 +116,8 @@ public class UserService {
         
         userEntity.setStatus(Status.DELETED);
         userRepository.save(userEntity);
+        userCountService.recordStatusChange(Status.ACTIVE, Status.DELETED);
+        eventPublisher.publishEvent(UserChangeEvent.of(userEntity));
     }
 
 }
\ No newline at end of file
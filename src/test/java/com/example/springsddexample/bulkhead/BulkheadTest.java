@@ -0,0 +1,90 @@
+package com.example.springsddexample.bulkhead;
+
+import com.example.springsddexample.exception.BulkheadFullException;
+import com.example.springsddexample.model.dto.BulkheadStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkheadTest {
+
+    private Bulkhead bulkhead;
+
+    @AfterEach
+    void tearDown() {
+        bulkhead.shutdown();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void supplyWhenWorkersAndQueueAreFullShouldRejectAndCountIt() throws Exception {
+        bulkhead = new Bulkhead("test", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = bulkhead.supply(() -> await(release));
+        CompletableFuture<String> queued = bulkhead.supply(() -> "queued");
+
+        assertThrows(BulkheadFullException.class, () -> bulkhead.supply(() -> "rejected"));
+
+        BulkheadStats stats = bulkhead.getStats();
+        assertEquals(1, stats.getQueueDepth());
+        assertEquals(2, stats.getSubmitted());
+        assertEquals(1, stats.getRejected());
+        release.countDown();
+        assertEquals("released", running.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void getStatsShouldReportCompletedTasksAndQueueWait() throws Exception {
+        bulkhead = new Bulkhead("test", 1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = bulkhead.supply(() -> await(release));
+        CompletableFuture<String> queued = bulkhead.supply(() -> "queued");
+        Thread.sleep(50);
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+
+        BulkheadStats stats = bulkhead.getStats();
+        assertEquals("test", stats.getName());
+        assertEquals(1, stats.getMaxConcurrency());
+        assertEquals(10, stats.getQueueCapacity());
+        assertEquals(0, stats.getQueueDepth());
+        assertEquals(2, stats.getCompleted());
+        assertEquals(0, stats.getRejected());
+        assertTrue(stats.getMaxWaitMillis() >= 50);
+        assertTrue(stats.getAverageWaitMillis() > 0);
+    }
+
+    @Test
+    void supplyShouldBindSubmittingRequestToWorkerThread() throws Exception {
+        bulkhead = new Bulkhead("test", 1, 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        String uri = bulkhead.supply(() -> ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+                .getRequest()
+                .getRequestURI()).get(5, TimeUnit.SECONDS);
+
+        assertEquals("/users", uri);
+        RequestContextHolder.resetRequestAttributes();
+        assertNull(bulkhead.supply(RequestContextHolder::getRequestAttributes).get(5, TimeUnit.SECONDS));
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "released";
+    }
+}
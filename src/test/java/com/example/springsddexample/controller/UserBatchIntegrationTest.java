@@ -0,0 +1,74 @@
+package com.example.springsddexample.controller;
+
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.repository.UserRepository;
+import com.example.springsddexample.util.UserTestUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class UserBatchIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.user-batch.max-ids}")
+    private int maxIds;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void shouldReturnFoundAndMissingUsersWhenRequestingMaxIds() {
+        UserEntity user = userRepository.save(UserTestUtils.createActiveUserEntity(null));
+        List<UUID> ids = new ArrayList<>(randomIds(maxIds - 1));
+        ids.add(user.getId());
+
+        ResponseEntity<JsonNode> response = postBatch(ids);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().get("users").size());
+        assertEquals(user.getId().toString(), response.getBody().get("users").get(0).get("id").asText());
+        assertEquals(maxIds - 1, response.getBody().get("missingIds").size());
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenRequestingMoreThanMaxIds() {
+        ResponseEntity<JsonNode> response = postBatch(randomIds(maxIds + 1));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("At most " + maxIds + " ids can be requested at once",
+                response.getBody().get("message").asText());
+    }
+
+    private ResponseEntity<JsonNode> postBatch(List<UUID> ids) {
+        return restTemplate.postForEntity("/users/batch", ids, JsonNode.class);
+    }
+
+    private List<UUID> randomIds(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).toList();
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.springsddexample.controller;
+
+import com.example.springsddexample.config.BulkheadConfig;
+import com.example.springsddexample.config.ModelMapperConfig;
+import com.example.springsddexample.exception.BulkheadFullException;
+import com.example.springsddexample.exception.UserAlreadyExistsException;
+import com.example.springsddexample.model.assembler.UserAssembler;
+import com.example.springsddexample.model.dto.BulkheadStats;
+import com.example.springsddexample.model.dto.User;
+import com.example.springsddexample.readmodel.UserReadModel;
+import com.example.springsddexample.service.UserBatchService;
+import com.example.springsddexample.service.UserCountService;
+import com.example.springsddexample.service.UserService;
+import com.example.springsddexample.util.UserTestUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = UserController.class, properties = {
+        "app.bulkhead.write.max-concurrency=1",
+        "app.bulkhead.write.queue-capacity=1"
+})
+@Import({BulkheadConfig.class, ModelMapperConfig.class, UserAssembler.class})
+public class UserControllerTest {
+
+    private static final String USER_JSON = """
+            {"username":"testUser","email":"test@example.com","firstName":"John","lastName":"Doe"}""";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserAssembler userAssembler;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private UserCountService userCountService;
+
+    @MockBean
+    private UserBatchService userBatchService;
+
+    @MockBean
+    private UserReadModel userReadModel;
+
+    @Test
+    void getUserByIdShouldReturnUserWithLinksBuiltOnReadBulkhead() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(userService.getUserById(id))
+                .thenAnswer(invocation -> userAssembler.toModel(UserTestUtils.createActiveUserEntity(id)));
+
+        MvcResult result = mockMvc.perform(get("/users/{id}", id))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id.toString()))
+                .andExpect(jsonPath("$._links.self.href").value("http://localhost/users/" + id))
+                .andExpect(jsonPath("$._links.users.href").value("http://localhost/users"));
+    }
+
+    @Test
+    void updateUserWhenUsernameTakenShouldReturnConflictThroughAsyncPath() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(userService.updateUser(eq(id), any())).thenThrow(new UserAlreadyExistsException("Username", "testUser"));
+
+        MvcResult result = mockMvc.perform(json(put("/users/{id}", id)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Username already exists: testUser"))
+                .andExpect(jsonPath("$.path").value("/users/" + id));
+    }
+
+    @Test
+    void createUserWhenGroupCommittedShouldReturnCreatedWithoutWriteWorker() throws Exception {
+        User created = UserTestUtils.createActiveUserWithId(UUID.randomUUID());
+        when(userService.submitUserCreation(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(created)));
+
+        MvcResult result = mockMvc.perform(json(post("/users")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(created.getId().toString()));
+        verify(userService, never()).createUser(any());
+    }
+
+    @Test
+    void createUserWhenWriteBulkheadIsFullShouldReturnServiceUnavailable() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(userService.submitUserCreation(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(userService.createUser(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return UserTestUtils.createActiveUserWithId(UUID.randomUUID());
+        });
+        MvcResult running = mockMvc.perform(json(post("/users"))).andReturn();
+        MvcResult queued = mockMvc.perform(json(post("/users"))).andReturn();
+
+        try {
+            MvcResult rejected = mockMvc.perform(json(post("/users")))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(rejected))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            release.countDown();
+        }
+        mockMvc.perform(asyncDispatch(running)).andExpect(status().isCreated());
+        mockMvc.perform(asyncDispatch(queued)).andExpect(status().isCreated());
+    }
+
+    @Test
+    void createUserWhenGroupCommitQueueIsFullShouldReturnServiceUnavailable() throws Exception {
+        when(userService.submitUserCreation(any(), any()))
+                .thenThrow(new BulkheadFullException("user-create-group-commit"));
+
+        mockMvc.perform(json(post("/users")))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        verify(userService, never()).createUser(any());
+    }
+
+    @Test
+    void getBulkheadStatsShouldIncludeGroupCommitWhenEnabled() throws Exception {
+        when(userService.getUserCreationStats())
+                .thenReturn(Optional.of(BulkheadStats.builder().name("user-create-group-commit").build()));
+
+        mockMvc.perform(get("/users/bulkheads"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name").value(contains("user-read", "user-write", "user-create-group-commit")));
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(USER_JSON);
+    }
+}
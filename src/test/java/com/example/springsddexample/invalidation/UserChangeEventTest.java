@@ -0,0 +1,46 @@
+package com.example.springsddexample.invalidation;
+
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.util.UserTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserChangeEventTest {
+
+    @Test
+    void includeShouldCollectIdsUsernamesAndEmailsOfEveryVersion() {
+        UUID id = UUID.randomUUID();
+        UserEntity user = UserTestUtils.createActiveUserEntity(id);
+        UserChangeEvent event = UserChangeEvent.of(user);
+        user.setUsername("renamed");
+
+        event.include(user);
+
+        assertEquals(Set.of(id), event.getIds());
+        assertEquals(Set.of("testUser", "renamed"), event.getUsernames());
+        assertEquals(Set.of("test@example.com"), event.getEmails());
+    }
+
+    @Test
+    void partitionShouldSplitKeysKeepingOrigin() {
+        UserChangeEvent event = UserChangeEvent.of(List.of(
+                UserTestUtils.createActiveUserEntity(UUID.randomUUID()),
+                UserTestUtils.createActiveUserEntity(UUID.randomUUID())));
+        event.getUsernames().add("other");
+        event.setOrigin("node");
+
+        List<UserChangeEvent> parts = event.partition(2);
+
+        assertEquals(3, parts.size());
+        assertEquals(List.of(2, 2, 1), parts.stream().map(UserChangeEvent::size).toList());
+        assertEquals(event.getIds(), parts.get(0).getIds());
+        assertEquals(Set.of("testUser", "other"), parts.get(1).getUsernames());
+        assertEquals(Set.of("test@example.com"), parts.get(2).getEmails());
+        parts.forEach(part -> assertEquals("node", part.getOrigin()));
+    }
+}
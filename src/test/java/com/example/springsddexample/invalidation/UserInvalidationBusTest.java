@@ -0,0 +1,115 @@
+package com.example.springsddexample.invalidation;
+
+import com.example.springsddexample.config.StartupConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.LazyInitializationBeanFactoryPostProcessor;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserInvalidationBusTest {
+
+    @Mock
+    private UserInvalidationListener localListener;
+
+    @Mock
+    private UserInvalidationListener remoteListener;
+
+    private LoopbackInvalidationTransport transport;
+    private UserInvalidationBus localBus;
+    private UserInvalidationBus remoteBus;
+
+    @BeforeEach
+    void setUp() {
+        transport = new LoopbackInvalidationTransport();
+        localBus = createBus(localListener);
+        remoteBus = createBus(remoteListener);
+    }
+
+    @Test
+    void publishShouldNotifyLocalListenersOnceAndRemoteListeners() {
+        UserChangeEvent event = UserChangeEvent.builder()
+                .ids(Set.of(UUID.randomUUID()))
+                .usernames(Set.of("testUser"))
+                .build();
+
+        localBus.publish(event);
+
+        assertEquals(localBus.getNodeId(), event.getOrigin());
+        verify(localListener).onUserChange(event);
+        verify(remoteListener).onUserChange(event);
+    }
+
+    @Test
+    void publishWhenTransportFailsShouldStillNotifyLocalListeners() {
+        InvalidationTransport failingTransport = mock(InvalidationTransport.class);
+        doThrow(new IllegalStateException("down")).when(failingTransport).publish(any());
+        UserInvalidationBus bus = new UserInvalidationBus(failingTransport, provider(localListener));
+        UserChangeEvent event = UserChangeEvent.builder().build();
+
+        assertDoesNotThrow(() -> bus.publish(event));
+
+        verify(localListener).onUserChange(event);
+    }
+
+    @Test
+    void publishWhenLocalListenerFailsShouldStillBroadcast() {
+        doThrow(new IllegalStateException("refresh failed")).when(localListener).onUserChange(any());
+        UserChangeEvent event = UserChangeEvent.builder().build();
+
+        assertDoesNotThrow(() -> localBus.publish(event));
+
+        verify(remoteListener).onUserChange(event);
+    }
+
+    @Test
+    void resyncShouldNotifyAllListeners() {
+        transport.resync();
+
+        verify(localListener).onResync();
+        verify(remoteListener).onResync();
+    }
+
+    @Test
+    void busShouldReceiveRemoteEventsBeforeFirstLocalWriteWhenLazyInitializationIsEnabled() {
+        new ApplicationContextRunner()
+                .withInitializer(context -> context.addBeanFactoryPostProcessor(
+                        new LazyInitializationBeanFactoryPostProcessor()))
+                .withUserConfiguration(StartupConfig.class)
+                .withBean(InvalidationTransport.class, LoopbackInvalidationTransport::new)
+                .withBean(UserInvalidationBus.class)
+                .withBean(UserInvalidationListener.class, () -> localListener)
+                .run(context -> {
+                    assertTrue(context.getBeanFactory().containsSingleton("userInvalidationBus"));
+                    UserInvalidationBus otherNode = new UserInvalidationBus(
+                            context.getBean(InvalidationTransport.class), provider(remoteListener));
+                    UserChangeEvent event = UserChangeEvent.builder().build();
+
+                    otherNode.publish(event);
+
+                    verify(localListener).onUserChange(event);
+                });
+    }
+
+    private UserInvalidationBus createBus(UserInvalidationListener listener) {
+        return new UserInvalidationBus(transport, provider(listener));
+    }
+
+    private ObjectProvider<UserInvalidationListener> provider(UserInvalidationListener listener) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("listener", listener);
+        return beanFactory.getBeanProvider(UserInvalidationListener.class);
+    }
+}
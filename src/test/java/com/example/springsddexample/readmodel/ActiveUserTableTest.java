@@ -0,0 +1,78 @@
+package com.example.springsddexample.readmodel;
+
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.util.UserTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ActiveUserTableTest {
+
+    @Test
+    void putShouldInsertAndOverwriteUsersById() {
+        ActiveUserTable table = new ActiveUserTable(4);
+        UUID id = UUID.randomUUID();
+        UserEntity user = UserTestUtils.createActiveUserEntity(id);
+        table.put(user);
+        user.setUsername("renamed");
+        user.setLastName(null);
+
+        table.put(user);
+
+        UserEntity stored = table.get(id);
+        assertEquals(1, table.size());
+        assertEquals(id, stored.getId());
+        assertEquals("renamed", stored.getUsername());
+        assertEquals("test@example.com", stored.getEmail());
+        assertNull(stored.getLastName());
+        assertNull(table.get(UUID.randomUUID()));
+    }
+
+    @Test
+    void randomPutsAndRemovesShouldMatchReferenceMap() {
+        ActiveUserTable table = new ActiveUserTable(16);
+        Map<UUID, String> reference = new HashMap<>();
+        List<UUID> ids = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            if (!ids.isEmpty() && random.nextInt(3) == 0) {
+                UUID id = ids.remove(random.nextInt(ids.size()));
+                table.remove(id);
+                reference.remove(id);
+            } else {
+                UUID id = ids.isEmpty() || random.nextBoolean() ? UUID.randomUUID() : ids.get(random.nextInt(ids.size()));
+                UserEntity user = UserTestUtils.createActiveUserEntity(id);
+                user.setUsername("user-" + i + "-ü");
+                table.put(user);
+                if (reference.put(id, user.getUsername()) == null) {
+                    ids.add(id);
+                }
+            }
+        }
+
+        assertEquals(reference.size(), table.size());
+        reference.forEach((id, username) -> assertEquals(username, table.get(id).getUsername()));
+        assertEquals(reference.size(), table.getAll().size());
+        ids.forEach(table::remove);
+        assertEquals(0, table.size());
+        assertTrue(table.getAll().isEmpty());
+    }
+
+    @Test
+    void estimatedBytesShouldStayWithinBudgetPerUser() {
+        ActiveUserTable table = new ActiveUserTable(16);
+        for (int i = 0; i < 100_000; i++) {
+            table.put(UserTestUtils.createActiveUserEntity(UUID.randomUUID()));
+        }
+
+        assertTrue(table.estimatedBytes() / table.size() < 256);
+    }
+}
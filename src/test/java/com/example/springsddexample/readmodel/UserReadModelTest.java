@@ -0,0 +1,110 @@
+package com.example.springsddexample.readmodel;
+
+import com.example.springsddexample.invalidation.UserChangeEvent;
+import com.example.springsddexample.model.dto.UserReadModelStats;
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.repository.UserRepository;
+import com.example.springsddexample.util.UserTestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserReadModelTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserReadModel userReadModel;
+
+    private UserEntity first;
+    private UserEntity second;
+    private UserEntity third;
+
+    @BeforeEach
+    void setUp() {
+        userReadModel = new UserReadModel(userRepository, true, 2);
+        first = UserTestUtils.createActiveUserEntity(UUID.randomUUID());
+        second = UserTestUtils.createActiveUserEntity(UUID.randomUUID());
+        third = UserTestUtils.createActiveUserEntity(UUID.randomUUID());
+    }
+
+    @Test
+    void loadShouldPageThroughActiveUsersByKey() {
+        when(userRepository.findByStatusAndIdGreaterThanOrderByIdAsc(Status.ACTIVE, new UUID(0, 0), Limit.of(2)))
+                .thenReturn(List.of(first, second));
+        when(userRepository.findByStatusAndIdGreaterThanOrderByIdAsc(Status.ACTIVE, second.getId(), Limit.of(2)))
+                .thenReturn(List.of(third));
+
+        userReadModel.load();
+
+        assertTrue(userReadModel.isReady());
+        assertEquals(3, userReadModel.findAll().size());
+        assertEquals(first.getUsername(), userReadModel.findById(first.getId()).orElseThrow().getUsername());
+        UserReadModelStats stats = userReadModel.getStats();
+        assertEquals(3, stats.getUsers());
+        assertEquals(stats.getBytes() / 3, stats.getBytesPerUser());
+        assertNotNull(stats.getLoadedAt());
+    }
+
+    @Test
+    void onUserChangeShouldReReadChangedUsersAndDropInactiveOnes() {
+        when(userRepository.findByStatusAndIdGreaterThanOrderByIdAsc(eq(Status.ACTIVE), any(), any()))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of());
+        userReadModel.load();
+        UserEntity renamed = UserTestUtils.createActiveUserEntity(first.getId());
+        renamed.setUsername("renamed");
+        UserEntity deleted = UserTestUtils.createActiveUserEntity(second.getId());
+        deleted.setStatus(Status.DELETED);
+        when(userRepository.findAllById(any())).thenReturn(List.of(renamed, deleted, third));
+
+        userReadModel.onUserChange(UserChangeEvent.of(List.of(first, second, third)));
+
+        assertEquals("renamed", userReadModel.findById(first.getId()).orElseThrow().getUsername());
+        assertEquals(Optional.empty(), userReadModel.findById(second.getId()));
+        assertTrue(userReadModel.findById(third.getId()).isPresent());
+        verify(userRepository, times(2)).findAllById(any());
+    }
+
+    @Test
+    void loadShouldReplayChangesMadeWhileSnapshotting() {
+        UserEntity renamed = UserTestUtils.createActiveUserEntity(first.getId());
+        renamed.setUsername("renamed");
+        when(userRepository.findByStatusAndIdGreaterThanOrderByIdAsc(eq(Status.ACTIVE), any(), any()))
+                .thenAnswer(invocation -> {
+                    userReadModel.onUserChange(UserChangeEvent.of(first));
+                    return List.of(first);
+                });
+        when(userRepository.findAllById(List.of(first.getId()))).thenReturn(List.of(renamed));
+
+        userReadModel.load();
+
+        assertEquals("renamed", userReadModel.findById(first.getId()).orElseThrow().getUsername());
+    }
+
+    @Test
+    void whenDisabledShouldNeitherLoadNorTrackChanges() {
+        userReadModel = new UserReadModel(userRepository, false, 2);
+
+        userReadModel.load();
+        userReadModel.onUserChange(UserChangeEvent.of(first));
+
+        assertFalse(userReadModel.isReady());
+        assertFalse(userReadModel.getStats().isReady());
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.springsddexample.repository;
+
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.util.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class JdbcBatchUserBulkLoaderIntegrationTest {
+
+    @Autowired
+    private UserBulkLoader userBulkLoader;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void loadShouldInsertEveryUserOfTheChunk() {
+        List<UserEntity> users = List.of(user("1"), user("2"), user("3"));
+
+        userBulkLoader.load(users);
+
+        assertInstanceOf(JdbcBatchUserBulkLoader.class, userBulkLoader);
+        assertEquals(3, userRepository.count());
+        UserEntity loaded = userRepository.findById(users.get(1).getId()).orElseThrow();
+        assertEquals(TestUtils.usernameWithSuffix("2"), loaded.getUsername());
+        assertEquals(TestUtils.emailWithSuffix("2"), loaded.getEmail());
+        assertEquals(Status.ACTIVE, loaded.getStatus());
+        assertEquals(TestUtils.fixedDateTime().toInstant(), loaded.getCreatedAt().toInstant());
+    }
+
+    @Test
+    void loadWhenOneUserViolatesUniquenessShouldInsertNothing() {
+        userBulkLoader.load(List.of(user("1")));
+        List<UserEntity> users = List.of(user("2"), user("1"), user("3"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> userBulkLoader.load(users));
+
+        assertEquals(1, userRepository.count());
+    }
+
+    private UserEntity user(String suffix) {
+        return UserEntity.builder()
+                .id(UUID.randomUUID())
+                .username(TestUtils.usernameWithSuffix(suffix))
+                .email(TestUtils.emailWithSuffix(suffix))
+                .firstName(TestUtils.DEFAULT_FIRST_NAME)
+                .lastName(TestUtils.DEFAULT_LAST_NAME)
+                .status(Status.ACTIVE)
+                .createdAt(TestUtils.fixedDateTime())
+                .updatedAt(TestUtils.fixedDateTime())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.springsddexample.repository;
+
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.model.enums.UserField;
+import com.example.springsddexample.util.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserRepositoryIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserEntity first;
+    private UserEntity second;
+    private UserEntity archived;
+
+    @BeforeEach
+    void setUp() {
+        first = userRepository.save(user("1", Status.ACTIVE));
+        second = userRepository.save(user("2", Status.ACTIVE));
+        archived = userRepository.save(user("3", Status.ARCHIVED));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void findFieldsByStatusShouldSelectOnlyRequestedFieldsOfActiveUsers() {
+        List<Map<String, Object>> rows = userRepository.findFieldsByStatus(
+                EnumSet.of(UserField.EMAIL, UserField.USERNAME), Status.ACTIVE);
+
+        assertEquals(2, rows.size());
+        rows.forEach(row -> assertEquals(List.of("username", "email"), List.copyOf(row.keySet())));
+        assertEquals(Set.of(first.getUsername(), second.getUsername()),
+                Set.of(rows.get(0).get("username"), rows.get(1).get("username")));
+    }
+
+    @Test
+    void findFieldsByIdAndStatusShouldReturnRequestedFieldsWhenUserIsActive() {
+        Optional<Map<String, Object>> row = userRepository.findFieldsByIdAndStatus(
+                EnumSet.of(UserField.ID, UserField.FIRST_NAME), first.getId(), Status.ACTIVE);
+
+        assertEquals(Optional.of(Map.of("id", first.getId(), "firstName", TestUtils.DEFAULT_FIRST_NAME)), row);
+        assertEquals(List.of("id", "firstName"), List.copyOf(row.get().keySet()));
+    }
+
+    @Test
+    void findFieldsByIdAndStatusShouldReturnEmptyWhenUserIsNotActive() {
+        Optional<Map<String, Object>> row = userRepository.findFieldsByIdAndStatus(
+                EnumSet.of(UserField.ID), archived.getId(), Status.ACTIVE);
+
+        assertTrue(row.isEmpty());
+    }
+
+    @Test
+    void findFieldsByIdInAndStatusShouldSkipUsersThatAreNotActive() {
+        List<Map<String, Object>> rows = userRepository.findFieldsByIdInAndStatus(
+                EnumSet.of(UserField.ID, UserField.LAST_NAME),
+                List.of(first.getId(), archived.getId()),
+                Status.ACTIVE);
+
+        assertEquals(List.of(Map.of("id", first.getId(), "lastName", TestUtils.DEFAULT_LAST_NAME)), rows);
+    }
+
+    private UserEntity user(String suffix, Status status) {
+        return UserEntity.builder()
+                .username(TestUtils.usernameWithSuffix(suffix))
+                .email(TestUtils.emailWithSuffix(suffix))
+                .firstName(TestUtils.DEFAULT_FIRST_NAME)
+                .lastName(TestUtils.DEFAULT_LAST_NAME)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.springsddexample.service;
+
+import com.example.springsddexample.model.assembler.UserAssembler;
+import com.example.springsddexample.model.dto.User;
+import com.example.springsddexample.model.dto.UserBatch;
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.model.enums.UserField;
+import com.example.springsddexample.repository.UserRepository;
+import com.example.springsddexample.util.UserTestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserBatchServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserAssembler userAssembler;
+
+    private UserBatchService userBatchService;
+
+    private UUID firstId;
+    private UUID secondId;
+    private UUID thirdId;
+    private UserEntity firstEntity;
+    private UserEntity thirdEntity;
+
+    @BeforeEach
+    void setUp() {
+        userBatchService = new UserBatchService(userRepository, userAssembler, 5, 2);
+        firstId = UUID.randomUUID();
+        secondId = UUID.randomUUID();
+        thirdId = UUID.randomUUID();
+        firstEntity = UserTestUtils.createActiveUserEntity(firstId);
+        thirdEntity = UserTestUtils.createActiveUserEntity(thirdId);
+    }
+
+    @Test
+    void getUsersByIdsShouldReturnFoundUsersInRequestOrderAndReportMissingIds() {
+        when(userRepository.findByIdInAndStatus(List.of(thirdId, secondId), Status.ACTIVE))
+                .thenReturn(List.of(thirdEntity));
+        when(userRepository.findByIdInAndStatus(List.of(firstId), Status.ACTIVE))
+                .thenReturn(List.of(firstEntity));
+        List<User> users = List.of(
+                UserTestUtils.createActiveUserWithId(thirdId),
+                UserTestUtils.createActiveUserWithId(firstId));
+        when(userAssembler.toModels(List.of(thirdEntity, firstEntity))).thenReturn(users);
+
+        UserBatch<User> result = userBatchService.getUsersByIds(List.of(thirdId, secondId, firstId));
+
+        assertEquals(users, result.getUsers());
+        assertEquals(List.of(secondId), result.getMissingIds());
+        verify(userRepository, times(2)).findByIdInAndStatus(anyList(), eq(Status.ACTIVE));
+        verify(userAssembler, never()).toModel(any());
+    }
+
+    @Test
+    void getUsersByIdsWhenIdsAreDuplicatedShouldQueryAndReturnEachOnce() {
+        when(userRepository.findByIdInAndStatus(List.of(firstId), Status.ACTIVE))
+                .thenReturn(List.of(firstEntity));
+        when(userAssembler.toModels(List.of(firstEntity)))
+                .thenReturn(List.of(UserTestUtils.createActiveUserWithId(firstId)));
+
+        UserBatch<User> result = userBatchService.getUsersByIds(List.of(firstId, firstId, firstId));
+
+        assertEquals(1, result.getUsers().size());
+        assertTrue(result.getMissingIds().isEmpty());
+        verify(userRepository).findByIdInAndStatus(List.of(firstId), Status.ACTIVE);
+    }
+
+    @Test
+    void getUserFieldsByIdsShouldSelectIdForOrderingAndOmitItWhenNotRequested() {
+        Map<String, Object> first = new HashMap<>(Map.of("id", firstId, "username", "first"));
+        Map<String, Object> third = new HashMap<>(Map.of("id", thirdId, "username", "third"));
+        when(userRepository.findFieldsByIdInAndStatus(EnumSet.of(UserField.ID, UserField.USERNAME),
+                List.of(thirdId, secondId), Status.ACTIVE)).thenReturn(List.of(third));
+        when(userRepository.findFieldsByIdInAndStatus(EnumSet.of(UserField.ID, UserField.USERNAME),
+                List.of(firstId), Status.ACTIVE)).thenReturn(List.of(first));
+
+        UserBatch<Map<String, Object>> result = userBatchService.getUserFieldsByIds(
+                List.of(thirdId, secondId, firstId), EnumSet.of(UserField.USERNAME));
+
+        assertEquals(List.of(Map.of("username", "third"), Map.of("username", "first")), result.getUsers());
+        assertEquals(List.of(secondId), result.getMissingIds());
+        verify(userRepository, never()).findByIdInAndStatus(any(), any());
+        verifyNoInteractions(userAssembler);
+    }
+
+    @Test
+    void getUsersByIdsWhenTooManyIdsShouldThrowIllegalArgumentException() {
+        List<UUID> ids = Collections.nCopies(6, firstId);
+
+        assertThrows(IllegalArgumentException.class, () -> userBatchService.getUsersByIds(ids));
+        verifyNoInteractions(userRepository, userAssembler);
+    }
+
+    @Test
+    void getUsersByIdsWhenNoIdsShouldReturnEmptyBatchWithoutQuerying() {
+        when(userAssembler.toModels(List.of())).thenReturn(List.of());
+
+        UserBatch<User> result = userBatchService.getUsersByIds(List.of());
+
+        assertTrue(result.getUsers().isEmpty());
+        assertTrue(result.getMissingIds().isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.springsddexample.service;
+
+import com.example.springsddexample.model.dto.UserCounts;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.model.projection.StatusCount;
+import com.example.springsddexample.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserCountServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserCountService userCountService;
+
+    @Test
+    void getCountsShouldReturnZeroForEveryStatusBeforeRecount() {
+        UserCounts result = userCountService.getCounts();
+
+        assertEquals(3, result.getCounts().size());
+        result.getCounts().values().forEach(count -> assertEquals(0L, count));
+        assertNull(result.getReconciledAt());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void recountShouldReplaceCountsWithDatabaseCounts() {
+        userCountService.recordCreated(Status.ACTIVE, 10);
+        when(userRepository.countByStatus()).thenReturn(List.of(
+                statusCount(Status.ACTIVE, 3),
+                statusCount(Status.DELETED, 2)));
+
+        userCountService.recount();
+
+        UserCounts result = userCountService.getCounts();
+        assertEquals(3L, result.getCounts().get(Status.ACTIVE));
+        assertEquals(0L, result.getCounts().get(Status.ARCHIVED));
+        assertEquals(2L, result.getCounts().get(Status.DELETED));
+        assertNotNull(result.getReconciledAt());
+    }
+
+    @Test
+    void recountShouldKeepChangesRecordedWhileCounting() {
+        userCountService.recordCreated(Status.ACTIVE, 10);
+        when(userRepository.countByStatus()).thenAnswer(invocation -> {
+            userCountService.recordCreated(Status.ACTIVE, 2);
+            userCountService.recordStatusChange(Status.ACTIVE, Status.DELETED);
+            return List.of(statusCount(Status.ACTIVE, 3));
+        });
+
+        userCountService.recount();
+
+        UserCounts result = userCountService.getCounts();
+        assertEquals(4L, result.getCounts().get(Status.ACTIVE));
+        assertEquals(1L, result.getCounts().get(Status.DELETED));
+    }
+
+    @Test
+    void recountWhenOneIsInProgressShouldShareItInsteadOfStartingAnother() {
+        when(userRepository.countByStatus()).thenReturn(List.of(statusCount(Status.ACTIVE, 3)));
+        List<Supplier<UserCounts>> started = new ArrayList<>();
+        CompletableFuture<UserCounts> running = new CompletableFuture<>();
+        Function<Supplier<UserCounts>, CompletableFuture<UserCounts>> runner = task -> {
+            started.add(task);
+            return running;
+        };
+
+        CompletableFuture<UserCounts> first = userCountService.recount(runner);
+        CompletableFuture<UserCounts> second = userCountService.recount(runner);
+        running.complete(started.get(0).get());
+
+        assertEquals(1, started.size());
+        assertEquals(3L, first.join().getCounts().get(Status.ACTIVE));
+        assertEquals(3L, second.join().getCounts().get(Status.ACTIVE));
+        verify(userRepository, times(1)).countByStatus();
+
+        userCountService.recount(task -> CompletableFuture.completedFuture(task.get())).join();
+
+        verify(userRepository, times(2)).countByStatus();
+    }
+
+    @Test
+    void recordCreatedShouldIncrementStatusCount() {
+        userCountService.recordCreated(Status.ACTIVE, 1);
+        userCountService.recordCreated(Status.ACTIVE, 500);
+
+        assertEquals(501L, userCountService.getCounts().getCounts().get(Status.ACTIVE));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void recordStatusChangeShouldMoveCountBetweenStatuses() {
+        userCountService.recordCreated(Status.ACTIVE, 2);
+
+        userCountService.recordStatusChange(Status.ACTIVE, Status.DELETED);
+
+        UserCounts result = userCountService.getCounts();
+        assertEquals(1L, result.getCounts().get(Status.ACTIVE));
+        assertEquals(1L, result.getCounts().get(Status.DELETED));
+    }
+
+    private StatusCount statusCount(Status status, long count) {
+        return new StatusCount() {
+            @Override
+            public Status getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.springsddexample.service;
+
+import com.example.springsddexample.exception.BulkheadFullException;
+import com.example.springsddexample.exception.UserAlreadyExistsException;
+import com.example.springsddexample.invalidation.UserChangeEvent;
+import com.example.springsddexample.model.dto.BulkheadStats;
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.repository.UserBulkLoader;
+import com.example.springsddexample.repository.UserRepository;
+import com.example.springsddexample.util.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserCreateCoalescerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserBulkLoader userBulkLoader;
+
+    @Mock
+    private UserCountService userCountService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private UserCreateCoalescer userCreateCoalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (userCreateCoalescer != null) {
+            userCreateCoalescer.stop();
+        }
+    }
+
+    @Test
+    void flushShouldInsertBatchOnceAndCompleteEachCaller() {
+        userCreateCoalescer = createCoalescer(false);
+        List<UserCreateCoalescer.PendingCreate> batch = List.of(pending("1"), pending("2"), pending("3"));
+
+        userCreateCoalescer.flush(batch);
+
+        verify(userRepository).findExistingUsernames(anyCollection());
+        verify(userRepository).findExistingEmails(anyCollection());
+        verify(userBulkLoader).load(batch.stream().map(UserCreateCoalescer.PendingCreate::user).toList());
+        verify(userCountService).recordCreated(Status.ACTIVE, 3);
+        verify(eventPublisher).publishEvent(any(UserChangeEvent.class));
+        for (UserCreateCoalescer.PendingCreate pending : batch) {
+            UserEntity created = pending.result().join().orElseThrow();
+            assertNotNull(created.getId());
+            assertNotNull(created.getCreatedAt());
+            assertEquals(Status.ACTIVE, created.getStatus());
+        }
+    }
+
+    @Test
+    void flushWhenUsernameTakenOrRepeatedShouldFailOnlyThoseCallers() {
+        userCreateCoalescer = createCoalescer(false);
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of(TestUtils.usernameWithSuffix("1")));
+        UserCreateCoalescer.PendingCreate taken = pending("1");
+        UserCreateCoalescer.PendingCreate first = pending("2");
+        UserCreateCoalescer.PendingCreate repeated = pending("2");
+        repeated.user().setEmail(TestUtils.emailWithSuffix("other"));
+
+        userCreateCoalescer.flush(List.of(taken, first, repeated));
+
+        assertFailsWith(taken, "Username already exists: " + TestUtils.usernameWithSuffix("1"));
+        assertFailsWith(repeated, "Username already exists: " + TestUtils.usernameWithSuffix("2"));
+        assertTrue(first.result().join().isPresent());
+        verify(userBulkLoader).load(List.of(first.user()));
+        verify(userCountService).recordCreated(Status.ACTIVE, 1);
+    }
+
+    @Test
+    void flushWhenBatchWriteFailsShouldFallBackForEveryCaller() {
+        userCreateCoalescer = createCoalescer(false);
+        doThrow(new DataIntegrityViolationException("duplicate key")).when(userBulkLoader).load(any());
+        List<UserCreateCoalescer.PendingCreate> batch = List.of(pending("1"), pending("2"));
+
+        userCreateCoalescer.flush(batch);
+
+        batch.forEach(pending -> assertEquals(Optional.empty(), pending.result().join()));
+        verifyNoInteractions(userCountService, eventPublisher);
+    }
+
+    @Test
+    void flushWhenPublishingAfterCommitFailsShouldStillCompleteEachCaller() {
+        userCreateCoalescer = createCoalescer(false);
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .when(eventPublisher).publishEvent(any(Object.class));
+        List<UserCreateCoalescer.PendingCreate> batch = List.of(pending("1"), pending("2"));
+
+        userCreateCoalescer.flush(batch);
+
+        batch.forEach(pending -> assertEquals(Optional.of(pending.user()), pending.result().join()));
+        verify(userBulkLoader).load(any());
+    }
+
+    @Test
+    void submitWhenDisabledShouldFallBackWithoutQueuing() {
+        userCreateCoalescer = createCoalescer(false);
+        userCreateCoalescer.start();
+
+        assertFalse(userCreateCoalescer.isEnabled());
+        assertEquals(Optional.empty(), userCreateCoalescer.submit(user("1")).join());
+        verifyNoInteractions(userRepository, userBulkLoader);
+    }
+
+    @Test
+    void submitWhenConcurrentShouldCoalesceIntoOneBatch() throws Exception {
+        userCreateCoalescer = createCoalescer(true);
+        userCreateCoalescer.start();
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch ready = new CountDownLatch(callers);
+        List<Future<Optional<UserEntity>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                UserEntity user = user(String.valueOf(i));
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return userCreateCoalescer.submit(user).join();
+                }));
+            }
+            for (Future<Optional<UserEntity>> result : results) {
+                assertTrue(result.get().isPresent());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserEntity>> batches = ArgumentCaptor.forClass(List.class);
+        verify(userBulkLoader, atLeastOnce()).load(batches.capture());
+        assertEquals(callers, batches.getAllValues().stream().mapToInt(List::size).sum());
+        assertTrue(batches.getAllValues().size() < callers);
+    }
+
+    @Test
+    void submitWhenMaxPendingCreatesAreWaitingShouldRejectAndReportStats() throws Exception {
+        userCreateCoalescer = createCoalescer(true, 1, 1);
+        userCreateCoalescer.start();
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findExistingUsernames(anyCollection())).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        CompletableFuture<Optional<UserEntity>> inBatch = userCreateCoalescer.submit(user("1"));
+        assertTrue(flushing.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Optional<UserEntity>> queued = userCreateCoalescer.submit(user("2"));
+
+        try {
+            assertThrows(BulkheadFullException.class, () -> userCreateCoalescer.submit(user("3")));
+
+            BulkheadStats stats = userCreateCoalescer.getStats();
+            assertEquals("user-create-group-commit", stats.getName());
+            assertEquals(1, stats.getActive());
+            assertEquals(1, stats.getQueueDepth());
+            assertEquals(1, stats.getQueueCapacity());
+            assertEquals(2, stats.getSubmitted());
+            assertEquals(1, stats.getRejected());
+        } finally {
+            release.countDown();
+        }
+        assertTrue(inBatch.join().isPresent());
+        assertTrue(queued.join().isPresent());
+    }
+
+    private UserCreateCoalescer createCoalescer(boolean enabled) {
+        return createCoalescer(enabled, 64, 100);
+    }
+
+    private UserCreateCoalescer createCoalescer(boolean enabled, int maxBatchSize, int maxPending) {
+        return new UserCreateCoalescer(userRepository, userBulkLoader, userCountService, eventPublisher,
+                enabled, maxBatchSize, Duration.ofMillis(200), maxPending);
+    }
+
+    private UserCreateCoalescer.PendingCreate pending(String suffix) {
+        return new UserCreateCoalescer.PendingCreate(user(suffix), new CompletableFuture<>(), System.nanoTime());
+    }
+
+    private UserEntity user(String suffix) {
+        return UserEntity.builder()
+                .username(TestUtils.usernameWithSuffix(suffix))
+                .email(TestUtils.emailWithSuffix(suffix))
+                .firstName(TestUtils.DEFAULT_FIRST_NAME)
+                .lastName(TestUtils.DEFAULT_LAST_NAME)
+                .build();
+    }
+
+    private void assertFailsWith(UserCreateCoalescer.PendingCreate pending, String message) {
+        CompletionException exception = assertThrows(CompletionException.class, () -> pending.result().join());
+        assertInstanceOf(UserAlreadyExistsException.class, exception.getCause());
+        assertEquals(message, exception.getCause().getMessage());
+    }
+}
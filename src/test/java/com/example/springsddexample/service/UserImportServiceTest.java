@@ -0,0 +1,324 @@
+package com.example.springsddexample.service;
+
+import com.example.springsddexample.exception.UserImportNotFoundException;
+import com.example.springsddexample.exception.UserImportRejectedException;
+import com.example.springsddexample.invalidation.UserChangeEvent;
+import com.example.springsddexample.model.dto.UserImport;
+import com.example.springsddexample.model.entity.UserEntity;
+import com.example.springsddexample.model.enums.ImportStatus;
+import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.repository.UserBulkLoader;
+import com.example.springsddexample.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserImportServiceTest {
+
+    private static final String HEADER = "username,email,first_name,last_name\n";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserBulkLoader userBulkLoader;
+
+    @Mock
+    private UserCountService userCountService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    private Path workDirectory;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = createService(Runnable::run, Duration.ofHours(1));
+    }
+
+    @Test
+    void submitImportShouldLoadValidRowsInChunks() throws IOException {
+        String csv = HEADER
+                + "user1,user1@example.com,John,Doe\n"
+                + "user2,user2@example.com,Jane,Doe\n"
+                + "user3,user3@example.com,\"Smith, Jr.\",\"O\"\"Neil\"\n";
+
+        UserImport result = userImportService.submitImport(stream(csv));
+
+        UserImport userImport = userImportService.getImport(result.getId());
+        assertEquals(ImportStatus.COMPLETED, userImport.getStatus());
+        assertEquals(3, userImport.getRowsProcessed());
+        assertEquals(3, userImport.getRowsImported());
+        assertEquals(0, userImport.getRowsRejected());
+        assertEquals(csv.length(), userImport.getBytesRead());
+
+        ArgumentCaptor<List<UserEntity>> chunks = chunkCaptor();
+        verify(userBulkLoader, times(2)).load(chunks.capture());
+        assertEquals(2, chunks.getAllValues().get(0).size());
+        UserEntity last = chunks.getAllValues().get(1).get(0);
+        assertEquals("Smith, Jr.", last.getFirstName());
+        assertEquals("O\"Neil", last.getLastName());
+        assertEquals(Status.ACTIVE, last.getStatus());
+        assertNotNull(last.getId());
+        assertNotNull(last.getCreatedAt());
+        verify(userCountService).recordCreated(Status.ACTIVE, 2);
+        verify(userCountService).recordCreated(Status.ACTIVE, 1);
+        ArgumentCaptor<UserChangeEvent> events = ArgumentCaptor.forClass(UserChangeEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(Set.of("user1", "user2"), events.getAllValues().get(0).getUsernames());
+        assertEquals(Set.of("user3@example.com"), events.getAllValues().get(1).getEmails());
+    }
+
+    @Test
+    void submitImportWhenRowsAreInvalidShouldReportThemAndContinue() throws IOException {
+        String csv = HEADER
+                + "user1,user1@example.com,John\n"
+                + ",user2@example.com,Jane,Doe\n"
+                + "user3,user3@example.com,Bob,Wilson\n"
+                + "user3,other@example.com,Bob,Wilson\n";
+
+        UserImport result = userImportService.submitImport(stream(csv));
+
+        UserImport userImport = userImportService.getImport(result.getId());
+        assertEquals(ImportStatus.COMPLETED, userImport.getStatus());
+        assertEquals(4, userImport.getRowsProcessed());
+        assertEquals(1, userImport.getRowsImported());
+        assertEquals(3, userImport.getRowsRejected());
+
+        List<String> report = errorReport(result.getId());
+        assertEquals(4, report.size());
+        assertTrue(report.get(1).startsWith("2,\"Expected 4 columns but found 3\""));
+        assertTrue(report.get(2).startsWith("3,\"username is required\""));
+        assertTrue(report.get(3).startsWith("5,\"Duplicate username in file: user3\""));
+    }
+
+    @Test
+    void submitImportWhenUsersExistShouldRejectThemWithoutLoading() throws IOException {
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of("user1"));
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("user2@example.com"));
+        String csv = HEADER
+                + "user1,user1@example.com,John,Doe\n"
+                + "user2,user2@example.com,Jane,Doe\n";
+
+        UserImport result = userImportService.submitImport(stream(csv));
+
+        UserImport userImport = userImportService.getImport(result.getId());
+        assertEquals(0, userImport.getRowsImported());
+        assertEquals(2, userImport.getRowsRejected());
+        List<String> report = errorReport(result.getId());
+        assertTrue(report.get(1).contains("Username already exists: user1"));
+        assertTrue(report.get(2).contains("Email already exists: user2@example.com"));
+        verify(userBulkLoader, never()).load(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void submitImportWhenChunkLoadFailsShouldRejectChunkAndContinue() throws IOException {
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .doNothing()
+                .when(userBulkLoader).load(any());
+        String csv = HEADER
+                + "user1,user1@example.com,John,Doe\n"
+                + "user2,user2@example.com,Jane,Doe\n"
+                + "user3,user3@example.com,Bob,Wilson\n";
+
+        UserImport result = userImportService.submitImport(stream(csv));
+
+        UserImport userImport = userImportService.getImport(result.getId());
+        assertEquals(ImportStatus.COMPLETED, userImport.getStatus());
+        assertEquals(1, userImport.getRowsImported());
+        assertEquals(2, userImport.getRowsRejected());
+        assertTrue(errorReport(result.getId()).get(1).contains("Chunk load failed: connection lost"));
+        verify(userCountService).recordCreated(Status.ACTIVE, 1);
+        verifyNoMoreInteractions(userCountService);
+    }
+
+    @Test
+    void submitImportWhenRowLosesUniquenessRaceShouldRecheckAndLoadTheRest() throws IOException {
+        when(userRepository.findExistingUsernames(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of("user2"));
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .doNothing()
+                .when(userBulkLoader).load(any());
+        String csv = HEADER
+                + "user1,user1@example.com,John,Doe\n"
+                + "user2,user2@example.com,Jane,Doe\n";
+
+        UserImport result = userImportService.submitImport(stream(csv));
+
+        UserImport userImport = userImportService.getImport(result.getId());
+        assertEquals(1, userImport.getRowsImported());
+        assertEquals(1, userImport.getRowsRejected());
+        List<String> report = errorReport(result.getId());
+        assertEquals(2, report.size());
+        assertTrue(report.get(1).startsWith("3,\"Username already exists: user2\""));
+        ArgumentCaptor<List<UserEntity>> chunks = chunkCaptor();
+        verify(userBulkLoader, times(2)).load(chunks.capture());
+        assertEquals(List.of("user1"), chunks.getAllValues().get(1).stream().map(UserEntity::getUsername).toList());
+        verify(userCountService).recordCreated(Status.ACTIVE, 1);
+        verifyNoMoreInteractions(userCountService);
+    }
+
+    @Test
+    void submitImportWhenRetryStillConflictsShouldLoadRowByRow() throws IOException {
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .doThrow(new DataIntegrityViolationException("duplicate key"))
+                .doNothing()
+                .doThrow(new DataIntegrityViolationException("duplicate key: user2"))
+                .when(userBulkLoader).load(any());
+        String csv = HEADER
+                + "user1,user1@example.com,John,Doe\n"
+                + "user2,user2@example.com,Jane,Doe\n";
+
+        UserImport result = userImportService.submitImport(stream(csv));
+
+        UserImport userImport = userImportService.getImport(result.getId());
+        assertEquals(ImportStatus.COMPLETED, userImport.getStatus());
+        assertEquals(1, userImport.getRowsImported());
+        assertEquals(1, userImport.getRowsRejected());
+        List<String> report = errorReport(result.getId());
+        assertEquals(2, report.size());
+        assertTrue(report.get(1).startsWith("3,\"Row load failed: duplicate key: user2\""));
+        verify(userBulkLoader, times(4)).load(any());
+        verify(userCountService).recordCreated(Status.ACTIVE, 1);
+        verifyNoMoreInteractions(userCountService);
+    }
+
+    @Test
+    void submitImportWhenHeaderIsMissingColumnShouldFailJob() throws IOException {
+        UserImport result = userImportService.submitImport(stream("username,email\nuser1,user1@example.com\n"));
+
+        UserImport userImport = userImportService.getImport(result.getId());
+        assertEquals(ImportStatus.FAILED, userImport.getStatus());
+        assertEquals("CSV header is missing column: first_name", userImport.getFailureReason());
+        verifyNoInteractions(userBulkLoader);
+    }
+
+    @Test
+    void submitImportShouldDeleteUploadWhenFinished() throws IOException {
+        UserImport result = userImportService.submitImport(stream(HEADER));
+
+        try (var files = Files.list(workDirectory)) {
+            assertEquals(List.of(userImportService.getErrorReport(result.getId()).getFile().toPath()),
+                    files.toList());
+        }
+    }
+
+    @Test
+    void submitImportWhenTooManyJobsArePendingShouldRejectWithoutSpooling() throws IOException {
+        List<Runnable> queued = new ArrayList<>();
+        userImportService = createService(queued::add, Duration.ofHours(1));
+        userImportService.submitImport(stream(HEADER));
+        userImportService.submitImport(stream(HEADER));
+
+        assertThrows(UserImportRejectedException.class, () -> userImportService.submitImport(stream(HEADER)));
+        assertEquals(4, fileCount());
+
+        queued.forEach(Runnable::run);
+        assertDoesNotThrow(() -> userImportService.submitImport(stream(HEADER)));
+    }
+
+    @Test
+    void submitImportWhenExecutorRejectsShouldDiscardJobAndFiles() throws IOException {
+        userImportService = createService(task -> {
+            throw new TaskRejectedException("queue full");
+        }, Duration.ofHours(1));
+
+        assertThrows(UserImportRejectedException.class, () -> userImportService.submitImport(stream(HEADER)));
+        assertEquals(0, fileCount());
+    }
+
+    @Test
+    void submitImportWhenUploadFailsShouldDeleteSpooledFileAndReleaseSlot() throws IOException {
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThrows(IOException.class, () -> userImportService.submitImport(failing));
+        assertThrows(IOException.class, () -> userImportService.submitImport(failing));
+
+        assertEquals(0, fileCount());
+        assertDoesNotThrow(() -> userImportService.submitImport(stream(HEADER)));
+    }
+
+    @Test
+    void evictFinishedJobsShouldRemoveJobsAndReportsPastRetention() throws IOException {
+        userImportService = createService(Runnable::run, Duration.ZERO);
+        UserImport result = userImportService.submitImport(stream(HEADER));
+        Path orphan = Files.createFile(workDirectory.resolve("user-import-orphan-errors.csv"));
+        Files.setLastModifiedTime(orphan, FileTime.from(Instant.now().minusSeconds(60)));
+
+        userImportService.evictFinishedJobs();
+
+        assertThrows(UserImportNotFoundException.class, () -> userImportService.getImport(result.getId()));
+        assertEquals(0, fileCount());
+    }
+
+    @Test
+    void getImportWhenImportNotExistsShouldThrowUserImportNotFoundException() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(UserImportNotFoundException.class, () -> userImportService.getImport(id));
+        assertThrows(UserImportNotFoundException.class, () -> userImportService.getErrorReport(id));
+    }
+
+    private UserImportService createService(TaskExecutor executor, Duration retention) {
+        return new UserImportService(userRepository, userBulkLoader, userCountService, eventPublisher,
+                executor, 2, 2, retention, workDirectory);
+    }
+
+    private long fileCount() throws IOException {
+        try (var files = Files.list(workDirectory)) {
+            return files.count();
+        }
+    }
+
+    private InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> errorReport(UUID id) throws IOException {
+        return Files.readAllLines(userImportService.getErrorReport(id).getFile().toPath());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<UserEntity>> chunkCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -1,24 +1,35 @@
 package com.example.springsddexample.service;
 
 import com.example.springsddexample.exception.UserNotFoundException;
+import com.example.springsddexample.invalidation.UserChangeEvent;
 import com.example.springsddexample.model.assembler.UserAssembler;
 import com.example.springsddexample.model.dto.User;
 import com.example.springsddexample.model.entity.UserEntity;
 import com.example.springsddexample.model.enums.Status;
+import com.example.springsddexample.model.enums.UserField;
+import com.example.springsddexample.readmodel.UserReadModel;
 import com.example.springsddexample.repository.UserRepository;
+import com.example.springsddexample.util.TestUtils;
 import com.example.springsddexample.util.UserTestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,6 +48,18 @@ public class UserServiceTest {
     @Mock
     private UserValidationService userValidationService;
 
+    @Mock
+    private UserCountService userCountService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserCreateCoalescer userCreateCoalescer;
+
+    @Mock
+    private UserReadModel userReadModel;
+
     @InjectMocks
     private UserService userService;
 
@@ -67,6 +90,39 @@ public class UserServiceTest {
         verify(userAssembler).toModel(testUserEntity);
     }
 
+    @Test
+    void getAllUsersWhenReadModelReadyShouldServeFromReadModel() {
+        when(userReadModel.isReady()).thenReturn(true);
+        when(userReadModel.findAll()).thenReturn(testUserEntities);
+        when(userAssembler.toModels(testUserEntities)).thenReturn(List.of(testUser));
+
+        List<User> result = userService.getAllUsers();
+
+        assertEquals(List.of(testUser), result);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getUserByIdWhenReadModelReadyShouldServeFromReadModel() {
+        when(userReadModel.isReady()).thenReturn(true);
+        when(userReadModel.findById(testId)).thenReturn(Optional.of(testUserEntity));
+        when(userAssembler.toModel(testUserEntity)).thenReturn(testUser);
+
+        User result = userService.getUserById(testId);
+
+        assertEquals(testUser, result);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getUserByIdWhenReadModelHasNoUserShouldThrowUserNotFoundException() {
+        when(userReadModel.isReady()).thenReturn(true);
+        when(userReadModel.findById(testId)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userService.getUserById(testId));
+        verifyNoInteractions(userRepository);
+    }
+
     @Test
     void getUserByIdWhenUserExistsShouldReturnUser() {
         when(userRepository.findByIdAndStatus(testId, Status.ACTIVE))
@@ -91,6 +147,41 @@ public class UserServiceTest {
         verify(userAssembler, never()).toModel(any());
     }
 
+    @Test
+    void getAllUserFieldsShouldSelectOnlyRequestedFieldsOfActiveUsers() {
+        Set<UserField> fields = EnumSet.of(UserField.ID, UserField.USERNAME);
+        List<Map<String, Object>> rows = List.of(Map.of("id", testId, "username", TestUtils.DEFAULT_USERNAME));
+        when(userRepository.findFieldsByStatus(fields, Status.ACTIVE)).thenReturn(rows);
+
+        List<Map<String, Object>> result = userService.getAllUserFields(fields);
+
+        assertEquals(rows, result);
+        verify(userRepository, never()).findByStatus(any());
+        verifyNoInteractions(userAssembler);
+    }
+
+    @Test
+    void getUserFieldsByIdWhenUserExistsShouldReturnRequestedFields() {
+        Set<UserField> fields = EnumSet.of(UserField.EMAIL);
+        Map<String, Object> row = Map.of("email", TestUtils.DEFAULT_EMAIL);
+        when(userRepository.findFieldsByIdAndStatus(fields, testId, Status.ACTIVE))
+                .thenReturn(Optional.of(row));
+
+        Map<String, Object> result = userService.getUserFieldsById(testId, fields);
+
+        assertEquals(row, result);
+        verifyNoInteractions(userAssembler);
+    }
+
+    @Test
+    void getUserFieldsByIdWhenUserNotExistsShouldThrowUserNotFoundException() {
+        Set<UserField> fields = EnumSet.of(UserField.EMAIL);
+        when(userRepository.findFieldsByIdAndStatus(fields, testId, Status.ACTIVE))
+                .thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userService.getUserFieldsById(testId, fields));
+    }
+
     @Test
     void createUserShouldValidateAndCreateUser() {
         when(userAssembler.toEntity(testUser)).thenReturn(testUserEntity);
@@ -105,6 +196,37 @@ public class UserServiceTest {
         verify(userAssembler).toEntity(testUser);
         verify(userRepository).save(testUserEntity);
         verify(userAssembler).toModel(testUserEntity);
+        verify(userCountService).recordCreated(Status.ACTIVE, 1);
+        assertChangeEventPublished();
+    }
+
+    @Test
+    void submitUserCreationWhenGroupCommitEnabledShouldMapBatchResultOnCompletionExecutor() {
+        when(userCreateCoalescer.isEnabled()).thenReturn(true);
+        when(userAssembler.toEntity(testUser)).thenReturn(testUserEntity);
+        when(userCreateCoalescer.submit(testUserEntity))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(testUserEntity)));
+        when(userAssembler.toModel(testUserEntity)).thenReturn(testUser);
+        AtomicInteger completions = new AtomicInteger();
+
+        Optional<User> result = userService.submitUserCreation(testUser, task -> {
+            completions.incrementAndGet();
+            task.run();
+        }).join();
+
+        assertEquals(Optional.of(testUser), result);
+        assertEquals(1, completions.get());
+        verifyNoInteractions(userValidationService, userCountService, eventPublisher);
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void submitUserCreationWhenGroupCommitDisabledShouldCompleteEmptyWithoutQueuing() {
+        Optional<User> result = userService.submitUserCreation(testUser, Runnable::run).join();
+
+        assertEquals(Optional.empty(), result);
+        verify(userCreateCoalescer, never()).submit(any());
+        verifyNoInteractions(userRepository, userValidationService);
     }
 
     @Test
@@ -125,6 +247,7 @@ public class UserServiceTest {
         verify(userAssembler).updateEntity(testUserEntity, updateUser);
         verify(userRepository).save(testUserEntity);
         verify(userAssembler).toModel(testUserEntity);
+        assertChangeEventPublished();
     }
 
     @Test
@@ -137,6 +260,7 @@ public class UserServiceTest {
                 () -> userService.updateUser(testId, updateUser));
         verify(userRepository).findByIdAndStatus(testId, Status.ACTIVE);
         verify(userValidationService, never()).validateUserUpdate(any(), any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -165,7 +289,9 @@ public class UserServiceTest {
 
         verify(userRepository).findByIdAndStatus(testId, Status.ACTIVE);
         verify(userRepository).save(testUserEntity);
+        verify(userCountService).recordStatusChange(Status.ACTIVE, Status.DELETED);
         assertEquals(Status.DELETED, testUserEntity.getStatus());
+        assertChangeEventPublished();
     }
 
     @Test
@@ -176,5 +302,14 @@ public class UserServiceTest {
         assertThrows(UserNotFoundException.class, () -> userService.deleteUser(testId));
         verify(userRepository).findByIdAndStatus(testId, Status.ACTIVE);
         verify(userRepository, never()).save(any());
+        verifyNoInteractions(userCountService, eventPublisher);
+    }
+
+    private void assertChangeEventPublished() {
+        ArgumentCaptor<UserChangeEvent> event = ArgumentCaptor.forClass(UserChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(Set.of(testId), event.getValue().getIds());
+        assertEquals(Set.of(TestUtils.DEFAULT_USERNAME), event.getValue().getUsernames());
+        assertEquals(Set.of(TestUtils.DEFAULT_EMAIL), event.getValue().getEmails());
     }
 }
\ No newline at end of file